@@ -0,0 +1,218 @@
+package com.likelion.vlog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.vlog.dto.posts.FeedCursor;
+import com.likelion.vlog.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 피드 수신함 (fan-out on write)
+ * - 키: 사용자 id, 값: 팔로우한 작성자의 최근 게시글 (created_at, post_id) 링 버퍼 (최대 inbox-size 개)
+ * - 게시글 작성 시 작성자의 팔로워 중 수신함이 메모리에 있는 사용자에게만 커밋 후 추가
+ * - 팔로워가 fan-out-threshold 를 넘는 작성자는 넣지 않고 조회 시 합침 (fan-out on read)
+ * - 수신함이 없으면 follows + posts 로 다시 채움 (팔로우/언팔로우, 작성자의 fan-out 구분 변경 시 커밋 후 제거)
+ *   (조회는 Caffeine compute 밖에서, 조회 중 들어온 fan-out 은 모아 두었다가 채운 뒤 반영)
+ * - 메트릭: cache=feedInbox
+ */
+@Component
+public class FeedInboxCache {
+
+    private static final String CACHE_NAME = "feedInbox";
+
+    private final Cache<Long, Inbox> cache;
+    // 수신함을 다시 채우는 중인 사용자 -> 그 사이 들어온 fan-out 게시글
+    private final ConcurrentMap<Long, List<FeedCursor>> loading = new ConcurrentHashMap<>();
+    private final int inboxSize;
+    private final int fanOutThreshold;
+
+    public FeedInboxCache(@Value("${vlog.feed.inbox.max-users:10000}") long maxUsers,
+                          @Value("${vlog.feed.inbox.size:300}") int inboxSize,
+                          @Value("${vlog.feed.inbox.ttl:30m}") Duration ttl,
+                          @Value("${vlog.feed.fan-out-threshold:1000}") int fanOutThreshold,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        this.inboxSize = inboxSize;
+        this.fanOutThreshold = fanOutThreshold;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 팔로워 수 기준으로 작성 시 수신함에 넣는 작성자인지 (아니면 조회 시 합침)
+     */
+    public boolean isFanOutAuthor(int followerCount) {
+        return followerCount <= fanOutThreshold;
+    }
+
+    /**
+     * 사용자 수신함 (없으면 생성)
+     * - 조회 중 fan-out 된 게시글은 조회 결과에 합쳐서 저장 (조회 결과와 겹치면 한 번만)
+     * - 조회 중 수신함이 제거되면(invalidate) 이번 요청에만 쓰고 저장하지 않음
+     * @param loader 최대 개수 -> 수신함 대상 작성자의 최근 게시글 정렬 키 (내림차순)
+     */
+    public Inbox get(Long userId, IntFunction<List<FeedCursor>> loader) {
+        Inbox cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<FeedCursor> pending = loading.computeIfAbsent(userId, key -> new ArrayList<>());
+        Inbox inbox;
+        try {
+            inbox = Inbox.of(inboxSize, loader.apply(inboxSize));
+        } catch (RuntimeException e) {
+            loading.remove(userId, pending);
+            throw e;
+        }
+
+        // fanOut 의 pending 추가와 같은 키 잠금 안에서 반영 -> 반영 후 들어온 게시글은 저장된 수신함에 바로 추가됨
+        loading.compute(userId, (key, current) -> {
+            pending.forEach(inbox::push);
+            if (current != pending) {
+                return current;
+            }
+            cache.put(userId, inbox);
+            return null;
+        });
+        return inbox;
+    }
+
+    /**
+     * 새 게시글을 팔로워 수신함에 추가 (커밋 후, 수신함이 메모리에 있는 팔로워만)
+     */
+    public void fanOut(long[] followerIds, FeedCursor post) {
+        if (!isFanOutAuthor(followerIds.length)) return;
+
+        TransactionUtils.afterCommit(() -> {
+            for (long followerId : followerIds) {
+                List<FeedCursor> pending = loading.computeIfPresent(followerId, (key, posts) -> {
+                    posts.add(post);
+                    return posts;
+                });
+                if (pending != null) {
+                    continue;
+                }
+                Inbox inbox = cache.getIfPresent(followerId);
+                if (inbox != null) {
+                    inbox.push(post);
+                }
+            }
+        });
+    }
+
+    /**
+     * 수신함 제거 (팔로우 대상이 바뀐 경우, 커밋 후)
+     */
+    public void invalidate(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            loading.remove(userId);
+            cache.invalidate(userId);
+        });
+    }
+
+    /**
+     * 작성자의 팔로워 수가 fan-out-threshold 를 넘나들면 팔로워 수신함 제거 (커밋 후)
+     * - 수신함은 만들 때의 작성자 구분(작성 시 추가 / 조회 시 합침)을 전제로 하므로,
+     *   구분이 바뀐 작성자의 글이 빠지거나 complete 판단이 틀리지 않도록 다시 채움
+     */
+    public void onFollowerCountChanged(long[] followerIds, int before, int after) {
+        if (isFanOutAuthor(before) == isFanOutAuthor(after)) return;
+
+        TransactionUtils.afterCommit(() -> {
+            List<Long> ids = Arrays.stream(followerIds).boxed().toList();
+            ids.forEach(loading::remove);
+            cache.invalidateAll(ids);
+        });
+    }
+
+    /**
+     * 게시글 정렬 키 (created_at, post_id) 링 버퍼
+     * - 가득 차면 가장 먼저 들어온 항목을 덮어씀
+     * - 이미 있는 게시글은 다시 넣지 않음 (조회 결과와 조회 중 fan-out 이 겹치는 경우)
+     * - complete: 대상 작성자의 게시글을 모두 담고 있는지 (한 번이라도 덮어쓰면 false)
+     */
+    public static final class Inbox {
+
+        private final FeedCursor[] ring;
+        private int next;
+        private int size;
+        private boolean complete;
+
+        private Inbox(int capacity) {
+            this.ring = new FeedCursor[capacity];
+        }
+
+        static Inbox of(int capacity, List<FeedCursor> recentPosts) {
+            Inbox inbox = new Inbox(capacity);
+            for (int i = recentPosts.size() - 1; i >= 0; i--) {
+                inbox.push(recentPosts.get(i));
+            }
+            inbox.complete = recentPosts.size() < capacity;
+            return inbox;
+        }
+
+        synchronized void push(FeedCursor post) {
+            for (int i = 0; i < size; i++) {
+                if (ring[i].getId().equals(post.getId())) {
+                    return;
+                }
+            }
+            if (size == ring.length) {
+                complete = false;
+            } else {
+                size++;
+            }
+            ring[next] = post;
+            next = (next + 1) % ring.length;
+        }
+
+        /**
+         * cursor 보다 앞선(오래된) 게시글 정렬 키 (내림차순, 최대 limit 개)
+         */
+        public synchronized List<FeedCursor> before(FeedCursor cursor, int limit) {
+            FeedCursor[] posts = Arrays.copyOf(ring, size);
+            Arrays.sort(posts);
+
+            List<FeedCursor> result = new ArrayList<>(Math.min(limit, size));
+            for (int i = posts.length - 1; i >= 0 && result.size() < limit; i--) {
+                if (posts[i].compareTo(cursor) < 0) {
+                    result.add(posts[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 수신함에 있는 가장 오래된 게시글 정렬 키 (비어 있으면 FeedCursor.FIRST)
+         * - 수신함이 complete 가 아니면 이보다 오래된 게시글은 DB 에서 조회
+         */
+        public synchronized FeedCursor oldest() {
+            FeedCursor oldest = FeedCursor.FIRST;
+            for (int i = 0; i < size; i++) {
+                if (ring[i].compareTo(oldest) < 0) {
+                    oldest = ring[i];
+                }
+            }
+            return oldest;
+        }
+
+        public synchronized boolean isComplete() {
+            return complete;
+        }
+    }
+}
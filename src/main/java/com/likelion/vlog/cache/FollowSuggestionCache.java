@@ -0,0 +1,77 @@
+package com.likelion.vlog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.vlog.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 팔로우 추천 결과 캐시
+ * - 키: 사용자 id, 값: 추천 후보 (내가 팔로우하는 사람 중 몇 명이 팔로우하는지 순)
+ * - 본인이 팔로우/언팔로우하면 커밋 후 제거, 그 외 관계 변화는 ttl 동안 반영되지 않음
+ * - 메트릭: cache=followSuggestion
+ */
+@Component
+public class FollowSuggestionCache {
+
+    private static final String CACHE_NAME = "followSuggestion";
+
+    private final Cache<Long, List<Candidate>> cache;
+
+    // 무효화 횟수: 조회 도중 무효화가 있었으면 조회 결과를 저장하지 않음 (무효화 이전 관계일 수 있음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FollowSuggestionCache(@Value("${vlog.follow-suggestion.cache.max-users:10000}") long maxUsers,
+                                 @Value("${vlog.follow-suggestion.cache.ttl:10m}") Duration ttl,
+                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 추천 결과 조회, 없으면 loader 로 계산 후 저장
+     * - 계산은 Caffeine 의 계산 함수 밖에서 실행 (해시 구간 잠금을 쥔 채 조회하지 않도록)
+     */
+    public List<Candidate> get(Long userId, Supplier<List<Candidate>> loader) {
+        List<Candidate> cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        List<Candidate> candidates = List.copyOf(loader.get());
+        if (invalidations.get() == invalidationsBefore) {
+            cache.asMap().putIfAbsent(userId, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * 추천 결과 제거 (팔로우 대상이 바뀐 경우, 커밋 후)
+     */
+    public void invalidate(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            cache.invalidate(userId);
+        });
+    }
+
+    /**
+     * @param userId 추천 사용자 id
+     * @param mutualCount 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 수
+     */
+    public record Candidate(Long userId, long mutualCount) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.likelion.vlog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.vlog.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 사용자별 게시글 좋아요 여부 캐시
+ * - 키: 이메일, 값: 최근 확인한 게시글 id -> 좋아요 여부
+ * - 캐시에 없는 게시글만 한 번에 조회 (목록 한 페이지 = IN 쿼리 최대 1회)
+ * - 좋아요 추가/취소 시 커밋 후 해당 사용자 항목 갱신
+ * - 메트릭: cache=likedPost
+ */
+@Component
+public class LikedPostCache {
+
+    private static final String CACHE_NAME = "likedPost";
+
+    private final Cache<String, Map<Long, Boolean>> cache;
+    private final int maxPostsPerUser;
+
+    public LikedPostCache(@Value("${vlog.liked-post-cache.max-users:10000}") long maxUsers,
+                          @Value("${vlog.liked-post-cache.max-posts-per-user:1000}") int maxPostsPerUser,
+                          @Value("${vlog.liked-post-cache.ttl:10m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        this.maxPostsPerUser = maxPostsPerUser;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 게시글 중 사용자가 좋아요한 id
+     * @param loader 캐시에 없는 게시글 id -> 그 중 좋아요한 id
+     */
+    public Set<Long> get(String email, Collection<Long> postIds, Function<List<Long>, Set<Long>> loader) {
+        Map<Long, Boolean> known = cache.get(email, key -> new ConcurrentHashMap<>());
+
+        Set<Long> result = new HashSet<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long postId : postIds) {
+            Boolean liked = known.get(postId);
+            if (liked == null) {
+                missing.add(postId);
+            } else if (liked) {
+                result.add(postId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> liked = loader.apply(missing);
+
+        // 사용자 한 명 항목이 너무 많이 쌓이면 비우고 다음 조회부터 다시 채움
+        // (조회 도중 들어온 update 도 함께 지워지므로 이번 조회 결과는 저장하지 않음)
+        if (known.size() + missing.size() > maxPostsPerUser) {
+            known.clear();
+            result.addAll(liked);
+            return result;
+        }
+
+        // 조회 도중 커밋된 update 가 있으면 그 값이 더 최신이므로 덮어쓰지 않음
+        for (Long postId : missing) {
+            Boolean current = known.putIfAbsent(postId, liked.contains(postId));
+            if (current == null ? liked.contains(postId) : current) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 좋아요 추가/취소 (캐시에 있는 사용자만, 커밋 후)
+     */
+    public void update(String email, Long postId, boolean liked) {
+        TransactionUtils.afterCommit(() -> {
+            Map<Long, Boolean> known = cache.getIfPresent(email);
+            if (known != null) {
+                known.put(postId, liked);
+            }
+        });
+    }
+}
@@ -0,0 +1,220 @@
+package com.likelion.vlog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.enums.PageMode;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록/검색 결과 캐시
+ * - 정규화한 요청(태그, 키워드, 정렬, 페이지, 블로그)을 키로 응답 전체를 보관
+ * - 추정 바이트 크기 기준으로 용량 제한, 항목별 최대 유지 시간(ttl) 이후 만료
+ * - 글 작성/수정/삭제, 좋아요, 닉네임 변경 시 영향 받는 항목만 골라서 제거 (커밋 후)
+ * - 메트릭: cache.gets / cache.evictions 등 (cache=postList)
+ */
+@Component
+public class PostListCache {
+
+    private static final String CACHE_NAME = "postList";
+
+    // 항목 기본 크기 + 문자 1개당 크기 (UTF-16)
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int ITEM_OVERHEAD = 128;
+    private static final int BYTES_PER_CHAR = 2;
+
+    private final Cache<Key, Entry> cache;
+    private final int maxPage;
+
+    // 무효화 횟수: 조회 도중 무효화가 있었으면 조회 결과를 저장하지 않음 (무효화 이전 데이터일 수 있음)
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PostListCache(@Value("${vlog.post-list-cache.max-size:32MB}") DataSize maxSize,
+                         @Value("${vlog.post-list-cache.ttl:30s}") Duration ttl,
+                         @Value("${vlog.post-list-cache.max-page:4}") int maxPage,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxPage = maxPage;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답 조회, 없으면 loader 로 조회 후 저장
+     * - 앞쪽 페이지(maxPage 이하)와 커서 방식 첫 페이지만 캐시
+     * - DB 조회는 Caffeine 의 계산 함수 밖에서 실행 (해시 구간 잠금을 쥔 채 쿼리하지 않도록)
+     */
+    public PageResponse<PostListGetResponse> get(PostGetRequest request,
+                                                 Supplier<PageResponse<PostListGetResponse>> loader) {
+        Key key = Key.of(request);
+        if (key == null || key.page() > maxPage) {
+            return loader.get();
+        }
+
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.response();
+        }
+
+        long evictionsBefore = evictions.get();
+        PageResponse<PostListGetResponse> response = loader.get();
+        if (evictions.get() == evictionsBefore) {
+            cache.asMap().putIfAbsent(key, Entry.of(response));
+        }
+        return response;
+    }
+
+    /**
+     * 게시글 작성/수정/삭제
+     * - 같은 블로그(또는 블로그 조건 없음) 항목 중 태그 조건이 겹칠 수 있는 항목 제거
+     * @param tags 게시글의 태그 (수정은 변경 전 + 후, null 이면 태그 조건과 무관하게 제거)
+     */
+    public void evictPost(Long blogId, Collection<String> tags) {
+        Set<String> postTags = tags == null ? null : tags.stream()
+                .filter(Objects::nonNull)
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        evictAfterCommit((key, entry) -> key.matchesBlog(blogId) && key.matchesTags(postTags));
+    }
+
+    /**
+     * 좋아요 추가/취소
+     * - 해당 게시글이 포함된 항목 + 좋아요 순 정렬 항목 제거
+     */
+    public void evictLiked(Long postId) {
+        evictLiked(List.of(postId));
+    }
+
+    /**
+     * 좋아요 수 일괄 반영 (LikeCountBuffer flush, 탈퇴 계정 정리)
+     */
+    public void evictLiked(Collection<Long> postIds) {
+        Set<Long> changed = Set.copyOf(postIds);
+        evictAfterCommit((key, entry) -> key.sort() == SortField.LIKE
+                || entry.postIds().stream().anyMatch(changed::contains));
+    }
+
+    /**
+     * 닉네임 변경 / 탈퇴
+     * - 해당 작성자의 글이 포함된 항목 + 닉네임 검색 항목 제거
+     */
+    public void evictAuthor(Long userId) {
+        evictAfterCommit((key, entry) -> key.search() == SearchFiled.NICKNAME || entry.authorIds().contains(userId));
+    }
+
+    private void evictAfterCommit(BiPredicate<Key, Entry> stale) {
+        TransactionUtils.afterCommit(() -> {
+            evictions.incrementAndGet();
+            cache.asMap().entrySet().removeIf(e -> stale.test(e.getKey(), e.getValue()));
+        });
+    }
+
+    /**
+     * 정규화한 요청 키
+     * - 태그: 공백 제거, 빈 값/중복 제거, 정렬 (순서 무관)
+     * - 키워드: 앞뒤 공백 제거, 비어 있으면 검색 대상도 무시
+     */
+    record Key(SearchFiled search, String keyword, boolean prefix, List<String> tags, TagMode tagMode,
+               SortField sort, boolean asc, PageMode mode, int page, int size, Long blogId) {
+
+        // 커서 이후 페이지는 캐시하지 않음 (null)
+        static Key of(PostGetRequest request) {
+            boolean cursorMode = request.isCursorMode();
+            if (cursorMode && request.getCursor() != null && !request.getCursor().isBlank()) {
+                return null;
+            }
+
+            String keyword = request.getKeyword() == null ? null : request.getKeyword().trim();
+            if (keyword != null && keyword.isEmpty()) {
+                keyword = null;
+            }
+
+            List<String> tags = request.getTag() == null ? List.of() : request.getTag().stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(tag -> !tag.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toList();
+
+            Long blogId = request.getBlogId() != null && request.getBlogId() > 0 ? request.getBlogId() : null;
+
+            return new Key(
+                    keyword == null ? null : request.getSearch(),
+                    keyword,
+                    keyword != null && request.isPrefix(),
+                    tags,
+                    tags.isEmpty() ? null : request.getTagMode(),
+                    request.getSort(),
+                    request.isAsc(),
+                    cursorMode ? PageMode.CURSOR : request.isSliceMode() ? PageMode.SLICE : PageMode.OFFSET,
+                    cursorMode ? 0 : request.getPage(),
+                    request.getSize(),
+                    blogId);
+        }
+
+        boolean matchesBlog(Long postBlogId) {
+            return blogId == null || blogId.equals(postBlogId);
+        }
+
+        // 게시글 태그가 이 항목의 결과/건수를 바꿀 수 있는지 (NAND 는 항상)
+        boolean matchesTags(Set<String> postTags) {
+            if (tags.isEmpty() || postTags == null || tagMode == TagMode.NAND) {
+                return true;
+            }
+            return tags.stream().anyMatch(tag -> postTags.contains(tag.toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    /**
+     * 캐시 항목 (무효화 판단용 게시글/작성자 id 포함)
+     */
+    record Entry(PageResponse<PostListGetResponse> response, Set<Long> postIds, Set<Long> authorIds, int weight) {
+
+        static Entry of(PageResponse<PostListGetResponse> response) {
+            Set<Long> postIds = response.getContent().stream()
+                    .map(PostListGetResponse::getPostId)
+                    .collect(Collectors.toSet());
+            Set<Long> authorIds = response.getContent().stream()
+                    .map(item -> item.getAuthor().getUserId())
+                    .collect(Collectors.toSet());
+
+            int weight = ENTRY_OVERHEAD;
+            for (PostListGetResponse item : response.getContent()) {
+                weight += ITEM_OVERHEAD + BYTES_PER_CHAR * (length(item.getTitle())
+                        + length(item.getExcerpt())
+                        + length(item.getAuthor().getNickname()));
+            }
+            return new Entry(response, postIds, authorIds, weight);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
@@ -5,10 +5,15 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 @RequiredArgsConstructor
 public class JpaConfig {
     private final EntityManager entityManager;
@@ -17,4 +22,14 @@ public class JpaConfig {
     public JPAQueryFactory jpaQueryFactory(){
         return new JPAQueryFactory(entityManager);
     }
+
+    /**
+     * created_at / updated_at 은 초 단위로 잘라서 기록
+     * - 컬럼이 datetime(소수점 없음)이라 MySQL 이 반올림해 저장하므로,
+     *   저장 직후 엔티티 값과 DB 값이 달라지지 않도록 (피드 수신함, keyset 커서가 엔티티 값을 그대로 사용)
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
 }
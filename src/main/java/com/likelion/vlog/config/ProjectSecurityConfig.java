@@ -56,6 +56,10 @@ public class ProjectSecurityConfig {
                         // 헬스체크
                         .requestMatchers("/health").permitAll()
 
+                        // 모니터링 (actuator): 헬스체크만 공개, 메트릭은 관리자만 (vlog.admin.emails 계정에 ROLE_ADMIN 부여, AuthService)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics/**").hasRole("ADMIN")
+
                         // 인증 X
                         .requestMatchers(HttpMethod.GET,
                                 "/api/v1/users/**", //사용자 조회
@@ -75,7 +79,9 @@ public class ProjectSecurityConfig {
                         "/api/v1/tags/*",        // 태그 이름으로 조회
                         "/api/v1/posts/*/like",   //좋아요 조회
                         "/api/v1/users/*/followers", // 팔로워 조회
-                        "/api/v1/users/*/followings" // 팔로잉 조회
+                        "/api/v1/users/*/followings", // 팔로잉 조회
+                        "/api/v1/users/*/mutual-follows", // 맞팔로우 조회
+                        "/api/v1/users/*/suggestions" // 팔로우 추천 조회
                 ).permitAll()
 
                 // Swagger UI
@@ -88,6 +94,10 @@ public class ProjectSecurityConfig {
                 // -------------------------------------------------
                 // 2) 인증 O (Authenticated)
                 // -------------------------------------------------
+                .requestMatchers(HttpMethod.GET,
+                        "/api/v1/feed"                           // 피드 조회
+                ).authenticated()
+
                 .requestMatchers(HttpMethod.POST,
                         "/api/v1/auth/logout",
 
@@ -0,0 +1,12 @@
+package com.likelion.vlog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (조회수 flush 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.likelion.vlog.config;
 
+import com.likelion.vlog.enums.PageMode;
 import com.likelion.vlog.enums.SearchFiled;
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
@@ -15,5 +16,6 @@ public class appConfig implements WebMvcConfigurer {
         registry.addConverter(String.class, SortField.class, SortField::from);
         registry.addConverter(String.class, SearchFiled.class, SearchFiled::from);
         registry.addConverter(String.class, TagMode.class, TagMode::from);
+        registry.addConverter(String.class, PageMode.class, PageMode::from);
     }
 }
@@ -2,6 +2,7 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.comments.*;
 import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.dto.posts.PageResponse;
 import com.likelion.vlog.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,8 +14,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "댓글", description = "댓글 및 답글 CRUD API")
 @RestController
 @RequestMapping("/api/v1/posts/{postId}/comments")
@@ -23,15 +22,29 @@ public class CommentController {
 
     private final CommentService commentService;
 
-    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록 조회 (답글 포함)")
+    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록 커서 조회 (댓글별 답글 수 + 앞 일부 답글 포함)")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CommentWithRepliesGetResponse>>> getComments(
-            @PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<PageResponse<CommentWithRepliesGetResponse>>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        List<CommentWithRepliesGetResponse> response = commentService.getComments(postId);
+        PageResponse<CommentWithRepliesGetResponse> response = commentService.getComments(postId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success("댓글 목록 조회 성공", response));
     }
 
+    @Operation(summary = "답글 목록 조회", description = "댓글의 답글 목록 커서 조회")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ApiResponse<PageResponse<ReplyGetResponse>>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        PageResponse<ReplyGetResponse> response = commentService.getReplies(postId, commentId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("답글 목록 조회 성공", response));
+    }
+
     @Operation(summary = "댓글 작성", description = "게시글에 댓글 작성 (인증 필요)")
     @PostMapping
     public ResponseEntity<ApiResponse<CommentPostResponse>> createComment(
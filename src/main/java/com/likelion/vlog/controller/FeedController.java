@@ -0,0 +1,39 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 피드 API 컨트롤러
+ * - Base URL: /api/v1/feed
+ */
+@Tag(name = "피드", description = "팔로우한 사용자의 게시글 피드 API")
+@RestController
+@RequestMapping("/api/v1/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "피드 조회", description = "팔로우한 사용자의 게시글 최신순 조회 (커서 페이징, 인증 필요)")
+    @GetMapping
+    public ResponseEntity<PageResponse<PostListGetResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        PageResponse<PostListGetResponse> response = feedService.getFeed(userDetails.getUsername(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
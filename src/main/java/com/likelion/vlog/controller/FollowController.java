@@ -3,9 +3,11 @@ package com.likelion.vlog.controller;
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.follows.FollowDeleteResponse;
 import com.likelion.vlog.dto.follows.FollowPostResponse;
+import com.likelion.vlog.dto.follows.FollowSuggestionGetResponse;
 import com.likelion.vlog.dto.follows.FollowerGetResponse;
 import com.likelion.vlog.dto.follows.FollowingGetResponse;
 import com.likelion.vlog.dto.follows.PageResponse;
+import com.likelion.vlog.enums.PageMode;
 import com.likelion.vlog.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +20,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "팔로우", description = "팔로우/언팔로우 및 팔로워/팔로잉 조회 API")
 @RestController
 @RequestMapping("/api/v1/users")
@@ -48,9 +52,22 @@ public class FollowController {
                 .body(ApiResponse.success("언팔로우 완료", response));
     }
 
-    @Operation(summary = "팔로워 목록 조회", description = "사용자의 팔로워 목록 조회 (페이징)")
+    @Operation(summary = "팔로워 목록 조회", description = "사용자의 팔로워 목록 조회 (페이징: offset / mode=cursor)")
     @GetMapping("/{user_id}/followers")
-    public ResponseEntity<ApiResponse<PageResponse<FollowerGetResponse>>> getFollowers(@PathVariable("user_id") Long userId, Pageable pageable) {
+    public ResponseEntity<ApiResponse<PageResponse<FollowerGetResponse>>> getFollowers(
+            @PathVariable("user_id") Long userId,
+            @RequestParam(required = false) PageMode mode,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+
+        // mode=cursor 이거나 cursor 값이 있으면 커서 방식 (COUNT 없음)
+        if (mode == PageMode.CURSOR || (cursor != null && !cursor.isBlank())) {
+            PageResponse<FollowerGetResponse> response = followService.getFollowersByCursor(userId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(
+                    ApiResponse.success("팔로워 목록 조회 성공", response)
+            );
+        }
+
         Page<FollowerGetResponse> page = followService.getFollowers(userId, pageable);
         PageResponse<FollowerGetResponse> response = new PageResponse<>(
                 page.getContent(),
@@ -67,9 +84,22 @@ public class FollowController {
         );
     }
 
-    @Operation(summary = "팔로잉 목록 조회", description = "사용자가 팔로우하는 목록 조회 (페이징)")
+    @Operation(summary = "팔로잉 목록 조회", description = "사용자가 팔로우하는 목록 조회 (페이징: offset / mode=cursor)")
     @GetMapping("/{user_id}/followings")
-    public ResponseEntity<ApiResponse<PageResponse<FollowingGetResponse>>> getFollowings(@PathVariable("user_id") Long userId, Pageable pageable) {
+    public ResponseEntity<ApiResponse<PageResponse<FollowingGetResponse>>> getFollowings(
+            @PathVariable("user_id") Long userId,
+            @RequestParam(required = false) PageMode mode,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+
+        // mode=cursor 이거나 cursor 값이 있으면 커서 방식 (COUNT 없음)
+        if (mode == PageMode.CURSOR || (cursor != null && !cursor.isBlank())) {
+            PageResponse<FollowingGetResponse> response = followService.getFollowingsByCursor(userId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(
+                    ApiResponse.success("팔로잉 목록 조회 성공", response)
+            );
+        }
+
         Page<FollowingGetResponse> page = followService.getFollowings(userId, pageable);
         PageResponse<FollowingGetResponse> response = new PageResponse<>(
                 page.getContent(),
@@ -85,4 +115,35 @@ public class FollowController {
                 ApiResponse.success("팔로잉 목록 조회 성공", response)
         );
     }
+
+    @Operation(summary = "맞팔로우 목록 조회", description = "서로 팔로우하는 사용자 목록 조회 (페이징)")
+    @GetMapping("/{user_id}/mutual-follows")
+    public ResponseEntity<ApiResponse<PageResponse<FollowingGetResponse>>> getMutualFollows(@PathVariable("user_id") Long userId, Pageable pageable) {
+        Page<FollowingGetResponse> page = followService.getMutualFollows(userId, pageable);
+        PageResponse<FollowingGetResponse> response = new PageResponse<>(
+                page.getContent(),
+                new PageResponse.PageInfo(
+                        page.getNumber(),
+                        page.getSize(),
+                        page.getTotalElements(),
+                        page.getTotalPages()
+                )
+        );
+
+        return ResponseEntity.ok(
+                ApiResponse.success("맞팔로우 목록 조회 성공", response)
+        );
+    }
+
+    @Operation(summary = "팔로우 추천 조회", description = "내가 팔로우하는 사람들이 많이 팔로우하는 사용자 추천")
+    @GetMapping("/{user_id}/suggestions")
+    public ResponseEntity<ApiResponse<List<FollowSuggestionGetResponse>>> getSuggestions(
+            @PathVariable("user_id") Long userId,
+            @RequestParam(defaultValue = "10") int size) {
+
+        List<FollowSuggestionGetResponse> response = followService.getSuggestions(userId, size);
+        return ResponseEntity.ok(
+                ApiResponse.success("팔로우 추천 조회 성공", response)
+        );
+    }
 }
@@ -30,11 +30,14 @@ public class PostController {
 
     private final PostService postService;
 
-    @Operation(summary = "게시글 목록 조회", description = "페이징, 태그/블로그 필터링 지원")
+    @Operation(summary = "게시글 목록 조회", description = "페이징(offset / mode=cursor), 태그/블로그 필터링 지원")
     @GetMapping
-    public ResponseEntity<PageResponse<PostListGetResponse>> getPosts(@ModelAttribute PostGetRequest request) {
+    public ResponseEntity<PageResponse<PostListGetResponse>> getPosts(
+            @ModelAttribute PostGetRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
-        PageResponse<PostListGetResponse> response = postService.getPosts(request);
+        String email = (userDetails != null) ? userDetails.getUsername() : null;
+        PageResponse<PostListGetResponse> response = postService.getPosts(request, email);
         return ResponseEntity.ok(response);
     }
 
@@ -1,6 +1,7 @@
 package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.dto.tags.TagAutocompleteGetResponse;
 import com.likelion.vlog.dto.tags.TagGetResponse;
 import com.likelion.vlog.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +11,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "태그", description = "태그 조회 API")
 @RestController
 @RequestMapping("/api/v1/tags")
@@ -20,6 +24,16 @@ public class TagController {
 
     private  final TagService tagService;
 
+    @Operation(summary = "태그 자동완성", description = "접두사로 시작하는 태그를 사용 횟수 순으로 조회 (최대 10개)")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TagAutocompleteGetResponse>>> getTagsByPrefix(
+            @RequestParam(name = "prefix", defaultValue = "") String prefix,
+            @RequestParam(name = "size", defaultValue = "10") int size
+            )
+    {
+        return ResponseEntity.ok(ApiResponse.success("태그 자동완성 조회 성공", tagService.getTagsByPrefix(prefix, size)));
+    }
+
     @Operation(summary = "태그 조회", description = "태그 이름으로 태그 정보 조회")
     @GetMapping("/{title}")
     public ResponseEntity<ApiResponse<TagGetResponse>> getTag(
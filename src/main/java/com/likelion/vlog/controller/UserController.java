@@ -6,9 +6,12 @@ import com.likelion.vlog.dto.users.UserUpdateRequest;
 import com.likelion.vlog.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,10 +38,19 @@ public class UserController {
     public ResponseEntity<ApiResponse<String>> deleteUser(
             @PathVariable("user_id") Long userId,
             @RequestBody UserUpdateRequest userUpdateRequest,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
 
         String email = userDetails.getUsername();
         userService.deleteUser(userId, userUpdateRequest.getPassword(), email);
+
+        // 탈퇴한 계정의 세션 종료
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        SecurityContextHolder.clearContext();
+
         return ResponseEntity.ok(ApiResponse.success("회원탈퇴 성공"));
     }
 
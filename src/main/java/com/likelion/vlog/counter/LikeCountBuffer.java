@@ -0,0 +1,162 @@
+package com.likelion.vlog.counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.vlog.cache.PostListCache;
+import com.likelion.vlog.repository.jdbc.LikeJdbcRepository;
+import com.likelion.vlog.repository.jdbc.PostJdbcRepository;
+import com.likelion.vlog.util.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 좋아요 수 write-behind 버퍼
+ * - 좋아요/취소마다 posts 행을 UPDATE 하지 않고 증감분을 메모리에 누적 (인기 게시글 행 잠금 경합 제거)
+ * - 현재 좋아요 수 = DB 반영값(캐시) + 미반영 증감분
+ * - 주기적으로(vlog.like-count.flush-interval) 누적분을 JDBC batch 한 번으로 반영
+ * - LikeCountReconcileJob 의 보정과 flush 는 같은 잠금에서 실행되어 겹치지 않음
+ * - 메트릭: vlog.post.likes.pending (미반영 증감분), vlog.post.likes.flush (반영 소요시간), cache=likeCount
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final int STRIPES = 16;
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final PostListCache postListCache;
+    private final boolean enabled;
+
+    private final StripedCounter counter = new StripedCounter(STRIPES);
+    private final Cache<Long, Integer> persistedCounts;
+    // 캐시 무효화 횟수: 조회 도중 무효화가 있었으면 조회 결과를 저장하지 않음 (반영 이전 값일 수 있음)
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Timer flushTimer;
+
+    public LikeCountBuffer(PostJdbcRepository postJdbcRepository,
+                           LikeJdbcRepository likeJdbcRepository,
+                           PostListCache postListCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${vlog.like-count.buffer.enabled:true}") boolean enabled,
+                           @Value("${vlog.like-count.cache.max-size:10000}") long maxSize,
+                           @Value("${vlog.like-count.cache.ttl:10m}") Duration ttl) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.likeJdbcRepository = likeJdbcRepository;
+        this.postListCache = postListCache;
+        this.enabled = enabled;
+        this.persistedCounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, persistedCounts, "likeCount");
+        Gauge.builder("vlog.post.likes.pending", counter, StripedCounter::total)
+                .description("DB 에 반영되지 않은 좋아요 증감분 합계")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("vlog.post.likes.flush")
+                .description("좋아요 수 일괄 반영 소요시간")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 증감 (커밋 후 누적, 롤백되면 무시)
+     */
+    public void add(Long postId, int delta) {
+        TransactionUtils.afterCommit(() -> counter.add(postId, (long) delta));
+    }
+
+    /**
+     * 현재 좋아요 수 (게시글이 없으면 empty)
+     * - DB 조회는 Caffeine 의 계산 함수 밖에서 실행 (해시 구간 잠금을 쥔 채 쿼리하지 않도록)
+     */
+    public Optional<Integer> current(Long postId) {
+        Integer persisted = persistedCounts.getIfPresent(postId);
+        if (persisted == null) {
+            long invalidationsBefore = invalidations.get();
+            persisted = likeJdbcRepository.findLikeCount(postId).orElse(null);
+            if (persisted == null) {
+                return Optional.empty();
+            }
+            if (invalidations.get() == invalidationsBefore) {
+                persistedCounts.asMap().putIfAbsent(postId, persisted);
+            }
+        }
+        return Optional.of((int) Math.max(0, persisted + counter.pending(postId)));
+    }
+
+    /**
+     * 실제 좋아요 수가 actual 일 때 DB 에 저장되어 있어야 할 값 (미반영 증감분 제외)
+     */
+    public long expectedPersisted(Long postId, long actual) {
+        return Math.max(0, actual - counter.pending(postId));
+    }
+
+    /**
+     * DB 값이 바뀐 게시글의 캐시 제거 (커밋 후)
+     */
+    public void invalidate(Collection<Long> postIds) {
+        List<Long> copied = List.copyOf(postIds);
+        TransactionUtils.afterCommit(() -> invalidateCached(copied));
+    }
+
+    /**
+     * 보정 작업 실행 (남은 증감분을 먼저 반영하고 flush 와 겹치지 않게 실행)
+     */
+    public synchronized <T> T reconcile(Supplier<T> task) {
+        flushPending();
+        return task.get();
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.like-count.flush-interval:1000}")
+    public void flush() {
+        flushTimer.record(this::flushPending);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flushPending() {
+        Map<Long, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            postJdbcRepository.addLikeCounts(deltas);
+            invalidateCached(deltas.keySet());
+            // like_count 가 실제로 바뀐 시점에 목록 캐시 제거 (좋아요 커밋 시점에는 아직 DB 값이 그대로)
+            postListCache.evictLiked(deltas.keySet());
+        } catch (DataAccessException e) {
+            // 실패한 증감분은 다음 주기에 다시 시도
+            counter.addAll(deltas);
+            log.warn("좋아요 수 반영 실패: posts={}, cause={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void invalidateCached(Collection<Long> postIds) {
+        invalidations.incrementAndGet();
+        persistedCounts.invalidateAll(postIds);
+    }
+}
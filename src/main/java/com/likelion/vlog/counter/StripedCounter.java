@@ -0,0 +1,77 @@
+package com.likelion.vlog.counter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * id 별 증감분 누적기 (스트라이프 분할)
+ * - 스레드마다 다른 stripe 에 누적해서 인기 게시글 하나에 쓰기가 몰려도 경합을 분산
+ * - merge / remove 가 키 단위로 원자적이므로 drain 중 들어온 증감분도 유실되지 않음
+ */
+public class StripedCounter {
+
+    private final List<ConcurrentHashMap<Long, Long>> stripes;
+
+    public StripedCounter(int stripeCount) {
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public void add(Long id, long delta) {
+        stripe().merge(id, delta, Long::sum);
+    }
+
+    public void addAll(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * id 의 아직 반영되지 않은 증감분
+     */
+    public long pending(Long id) {
+        long sum = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            sum += stripe.getOrDefault(id, 0L);
+        }
+        return sum;
+    }
+
+    /**
+     * 전체 미반영 증감분 합계 (모니터링용)
+     */
+    public long total() {
+        long sum = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            for (Long value : stripe.values()) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 누적된 증감분을 꺼내고 비움 (id 별 합계, 0 은 제외)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            for (Long id : stripe.keySet()) {
+                Long delta = stripe.remove(id);
+                if (delta != null) {
+                    drained.merge(id, delta, Long::sum);
+                }
+            }
+        }
+        drained.values().removeIf(delta -> delta == 0L);
+        return drained;
+    }
+
+    private ConcurrentHashMap<Long, Long> stripe() {
+        return stripes.get((int) (Thread.currentThread().threadId() % stripes.size()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.likelion.vlog.counter;
+
+import com.likelion.vlog.repository.jdbc.PostJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * - 상세 조회마다 UPDATE 하지 않고 메모리에 누적
+ * - 주기적으로(vlog.view-count.flush-interval) 누적분을 JDBC batch 한 번으로 반영
+ * - 애플리케이션 종료 시 남은 누적분 반영
+ * - 메트릭: vlog.post.views.pending (미반영 조회수), vlog.post.views.flush (반영 소요시간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final int STRIPES = 16;
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final StripedCounter counter = new StripedCounter(STRIPES);
+    private Timer flushTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("vlog.post.views.pending", counter, StripedCounter::total)
+                .description("DB 에 반영되지 않은 조회수 합계")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("vlog.post.views.flush")
+                .description("조회수 일괄 반영 소요시간")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long postId) {
+        counter.add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long pending(Long postId) {
+        return counter.pending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.view-count.flush-interval:5000}")
+    public void flush() {
+        flushTimer.record(this::flushPending);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flushPending() {
+        Map<Long, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) return;
+
+        try {
+            postJdbcRepository.addViewCounts(deltas);
+        } catch (DataAccessException e) {
+            // 실패한 증가분은 다음 주기에 다시 시도
+            counter.addAll(deltas);
+            log.warn("조회수 반영 실패: posts={}, cause={}", deltas.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.likelion.vlog.dto.comments;
+
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.util.CursorCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글/답글 목록 커서 (keyset 페이징)
+ * - 마지막 행의 (created_at, comment_id) 를 불투명 토큰으로 인코딩
+ * - 목록은 created_at, comment_id 오름차순 (작성 순)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+
+    // 첫 페이지: 모든 행보다 앞의 값 (MySQL datetime 최소값)
+    private static final CommentCursor FIRST = new CommentCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 현재 페이지의 마지막 댓글로 다음 페이지 커서 생성
+     */
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    /**
+     * 요청의 cursor 토큰 해석 (없으면 첫 페이지)
+     * - 형식이 잘못되었으면 400
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        return CursorCodec.decode(cursor, 2,
+                parts -> new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
@@ -7,10 +7,10 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * GET /posts/{postId}/comments 응답 객체 (대댓글 포함)
+ * GET /posts/{postId}/comments 응답 객체 (답글 수 + 앞 일부 답글)
+ * - 나머지 답글은 GET /posts/{postId}/comments/{commentId}/replies 로 조회
  */
 @Getter
 @Builder
@@ -21,18 +21,24 @@ public class CommentWithRepliesGetResponse {
     private AuthorResponse author;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long replyCount;
     private List<ReplyGetResponse> replies;
 
-    public static CommentWithRepliesGetResponse from(Comment comment) {
+    /**
+     * @param replies 앞 일부 답글 (작성 순)
+     * @param replyCount 전체 답글 수
+     */
+    public static CommentWithRepliesGetResponse of(Comment comment, List<Comment> replies, long replyCount) {
         return CommentWithRepliesGetResponse.builder()
                 .commentId(comment.getId())
                 .content(comment.getContent())
                 .author(AuthorResponse.from(comment.getUser()))
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
-                .replies(comment.getChildren().stream()
+                .replyCount(replyCount)
+                .replies(replies.stream()
                         .map(ReplyGetResponse::from)
-                        .collect(Collectors.toList()))
+                        .toList())
                 .build();
     }
 }
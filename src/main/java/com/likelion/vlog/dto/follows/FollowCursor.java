@@ -0,0 +1,49 @@
+package com.likelion.vlog.dto.follows;
+
+import com.likelion.vlog.entity.Follow;
+import com.likelion.vlog.util.CursorCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로워/팔로잉 목록 커서 (keyset 페이징)
+ * - 마지막 행의 (created_at, follow_id) 를 불투명 토큰으로 인코딩
+ * - 목록은 created_at, follow_id 내림차순 (최근 팔로우 먼저)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FollowCursor {
+
+    // 첫 페이지: 모든 행보다 뒤의 값 (MySQL datetime 최대값)
+    private static final FollowCursor FIRST = new FollowCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 현재 페이지의 마지막 팔로우로 다음 페이지 커서 생성
+     */
+    public static FollowCursor of(Follow follow) {
+        return new FollowCursor(follow.getCreatedAt(), follow.getId());
+    }
+
+    /**
+     * 요청의 cursor 토큰 해석 (없으면 첫 페이지)
+     * - 형식이 잘못되었으면 400
+     */
+    public static FollowCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        return CursorCodec.decode(cursor, 2,
+                parts -> new FollowCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
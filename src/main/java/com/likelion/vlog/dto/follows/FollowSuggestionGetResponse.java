@@ -0,0 +1,28 @@
+package com.likelion.vlog.dto.follows;
+
+import com.likelion.vlog.entity.User;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 팔로우 추천 조회
+ * GET api/v1/users/{userId}/suggestions 응답 객체
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowSuggestionGetResponse {
+    private Long userId;
+    private String nickname;
+    private long mutualCount; // 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 수
+
+    public static FollowSuggestionGetResponse of(User user, long mutualCount) {
+        return FollowSuggestionGetResponse.builder()
+                .userId(user.getId())
+                .nickname(user.getNickname())
+                .mutualCount(mutualCount)
+                .build();
+    }
+}
@@ -18,5 +18,18 @@ public class PageResponse<T> {
         private int size;
         private long totalElements;
         private int totalPages;
+        private boolean hasNext;
+        private String nextCursor;    // 다음 페이지 커서 (커서 방식일 때만)
+        private boolean totalOmitted; // 전체 개수 생략 여부 (true 면 totalElements / totalPages 무의미)
+
+        // offset 페이징
+        public PageInfo(int page, int size, long totalElements, int totalPages) {
+            this(page, size, totalElements, totalPages, page + 1 < totalPages, null, false);
+        }
+
+        // 커서 페이징 (count 쿼리 없음)
+        public static PageInfo ofCursor(int size, boolean hasNext, String nextCursor) {
+            return new PageInfo(0, size, 0, 0, hasNext, nextCursor, true);
+        }
     }
 }
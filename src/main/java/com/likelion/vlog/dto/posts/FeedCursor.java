@@ -0,0 +1,58 @@
+package com.likelion.vlog.dto.posts;
+
+import com.likelion.vlog.util.CursorCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 피드 커서 (keyset 페이징)
+ * - 마지막 게시글의 (created_at, post_id) 를 불투명 토큰으로 인코딩
+ * - 피드는 created_at, post_id 내림차순 (post_id 는 pooled 채번이라 작성 순서와 다를 수 있음)
+ * - 피드 수신함(FeedInboxCache)의 게시글 정렬 키로도 사용
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor implements Comparable<FeedCursor> {
+
+    private static final Comparator<FeedCursor> ORDER = Comparator
+            .comparing(FeedCursor::getCreatedAt)
+            .thenComparing(FeedCursor::getId);
+
+    // 첫 페이지: 모든 행보다 뒤의 값 (MySQL datetime 최대값)
+    public static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static FeedCursor of(LocalDateTime createdAt, Long postId) {
+        return new FeedCursor(createdAt, postId);
+    }
+
+    /**
+     * 요청의 cursor 토큰 해석 (없으면 첫 페이지)
+     * - 형식이 잘못되었으면 400
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        return CursorCodec.decode(cursor, 2,
+                parts -> new FeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+
+    @Override
+    public int compareTo(FeedCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -3,6 +3,7 @@ package com.likelion.vlog.dto.posts;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -26,6 +27,9 @@ public class PageResponse<T> {
         private int totalPages;     // 전체 페이지 수
         private boolean first;      // 첫 페이지 여부
         private boolean last;       // 마지막 페이지 여부
+        private boolean hasNext;    // 다음 페이지 존재 여부
+        private String nextCursor;  // 다음 페이지 커서 (커서 방식일 때만)
+        private boolean totalOmitted; // 전체 개수 생략 여부 (true 면 totalElements / totalPages 무의미)
     }
 
     /**
@@ -43,7 +47,60 @@ public class PageResponse<T> {
                         .totalPages(page.getTotalPages())
                         .first(page.isFirst())
                         .last(page.isLast())
+                        .hasNext(page.hasNext())
                         .build())
                 .build();
     }
+
+    /**
+     * COUNT 없이 조회한 offset 페이징 결과를 API 응답 형식으로 변환
+     * - totalElements / totalPages 는 채우지 않음
+     * @param slice Spring Data Slice 객체 (페이지 번호, 다음 페이지 여부 추출용)
+     * @param content 변환된 DTO 목록
+     */
+    public static <T> PageResponse<T> of(Slice<?> slice, List<T> content) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageInfo(PageInfo.builder()
+                        .page(slice.getNumber())
+                        .size(slice.getSize())
+                        .first(slice.isFirst())
+                        .last(!slice.hasNext())
+                        .hasNext(slice.hasNext())
+                        .totalOmitted(true)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 커서 페이징 결과를 API 응답 형식으로 변환
+     * - count 쿼리를 생략하므로 totalElements / totalPages 는 채우지 않음
+     * @param slice Spring Data Slice 객체 (다음 페이지 여부 추출용)
+     * @param content 변환된 DTO 목록
+     * @param first 첫 페이지(커서 없이 요청) 여부
+     * @param nextCursor 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+     */
+    public static <T> PageResponse<T> of(Slice<?> slice, List<T> content, boolean first, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageInfo(PageInfo.builder()
+                        .size(slice.getSize())
+                        .first(first)
+                        .last(!slice.hasNext())
+                        .hasNext(slice.hasNext())
+                        .nextCursor(nextCursor)
+                        .totalOmitted(true)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 페이징 정보는 그대로 두고 목록만 교체 (캐시된 응답에 요청자별 값을 채울 때)
+     */
+    public <R> PageResponse<R> withContent(List<R> content) {
+        return PageResponse.<R>builder()
+                .content(content)
+                .pageInfo(pageInfo)
+                .build();
+    }
 }
\ No newline at end of file
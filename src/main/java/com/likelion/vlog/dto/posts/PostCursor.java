@@ -0,0 +1,79 @@
+package com.likelion.vlog.dto.posts;
+
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.exception.BadRequestException;
+import com.likelion.vlog.util.CursorCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 게시글 목록 커서 (keyset 페이징)
+ * - 마지막 행의 정렬 값 + post_id 를 불투명 토큰으로 인코딩
+ * - 정렬 조건(sort, asc)도 함께 담아 조건이 바뀐 커서는 거부
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private final SortField sort;
+    private final boolean asc;
+    private final String value;
+    private final Long id;
+
+    /**
+     * 현재 페이지의 마지막 게시글로 다음 페이지 커서 생성
+     */
+    public static PostCursor of(PostListGetResponse post, PostGetRequest request) {
+        SortField sort = request.getSort();
+        String value = switch (sort) {
+            case VIEW -> String.valueOf(zeroIfNull(post.getViewCount()));
+            case LIKE -> String.valueOf(zeroIfNull(post.getLikeCount()));
+            case CREATED_AT -> post.getCreatedAt().toString();
+            case UPDATED_AT -> post.getUpdatedAt().toString();
+        };
+        return new PostCursor(sort, request.isAsc(), value, post.getPostId());
+    }
+
+    /**
+     * 요청의 cursor 토큰 해석
+     * - 형식이 잘못되었거나 정렬 조건이 다르면 400
+     */
+    public static PostCursor decode(PostGetRequest request) {
+        PostCursor cursor = CursorCodec.decode(request.getCursor(), 4, parts ->
+                new PostCursor(SortField.valueOf(parts[0]), "1".equals(parts[1]), parts[2], Long.parseLong(parts[3])));
+
+        if (cursor.sort != request.getSort() || cursor.asc != request.isAsc()) {
+            throw BadRequestException.invalidValue("cursor", "정렬 조건이 커서와 일치하지 않습니다.");
+        }
+        // 값 형식 검증 (정렬 필드별 파싱)
+        try {
+            switch (cursor.sort) {
+                case VIEW, LIKE -> cursor.intValue();
+                case CREATED_AT, UPDATED_AT -> cursor.dateTimeValue();
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw BadRequestException.invalidFormat("cursor");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sort.name(), asc ? "1" : "0", value, id);
+    }
+
+    public int intValue() {
+        return Integer.parseInt(value);
+    }
+
+    public LocalDateTime dateTimeValue() {
+        return LocalDateTime.parse(value);
+    }
+
+    private static int zeroIfNull(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -1,5 +1,6 @@
 package com.likelion.vlog.dto.posts;
 
+import com.likelion.vlog.enums.PageMode;
 import com.likelion.vlog.enums.SearchFiled;
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
@@ -20,6 +21,9 @@ public class PostGetRequest {
     private Long blogId;
     private String keyword;
 
+    // true 면 키워드로 시작하는 항목만 (공백/대소문자 무시)
+    private boolean prefix;
+
     // 요청: ...&tag=c&tag=spring
     private List<String> tag;
 
@@ -28,7 +32,21 @@ public class PostGetRequest {
     private SortField sort = SortField.CREATED_AT;
     private boolean asc;
 
+    // 요청: ...&mode=cursor&cursor={이전 응답의 nextCursor}
+    //      ...&mode=slice&page=3 (전체 건수 생략)
+    private PageMode mode = PageMode.OFFSET;
+    private String cursor;
+
     public void normalize() {
         if (tag == null) tag = List.of();
     }
-}
\ No newline at end of file
+
+    // cursor 값이 넘어오면 mode 없이도 커서 방식으로 처리
+    public boolean isCursorMode() {
+        return mode == PageMode.CURSOR || (cursor != null && !cursor.isBlank());
+    }
+
+    public boolean isSliceMode() {
+        return mode == PageMode.SLICE && !isCursorMode();
+    }
+}
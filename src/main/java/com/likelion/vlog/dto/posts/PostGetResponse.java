@@ -19,21 +19,23 @@ public class PostGetResponse {
     private String content;
     private AuthorResponse author;
     private List<String> tags;
-    private List<CommentWithRepliesGetResponse> comments;
+    private List<CommentWithRepliesGetResponse> comments; // 댓글 첫 페이지
+    private String commentsNextCursor; // 다음 댓글 페이지 커서 (GET /posts/{postId}/comments?cursor=, 없으면 null)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     /**
-     * 정적 팩토리 메서드 (댓글 포함)
+     * 정적 팩토리 메서드 (댓글 첫 페이지 포함)
      */
-    public static PostGetResponse of(Post post, List<String> tags, List<CommentWithRepliesGetResponse> comments) {
+    public static PostGetResponse of(Post post, List<String> tags, PageResponse<CommentWithRepliesGetResponse> comments) {
         return PostGetResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(AuthorResponse.from(post.getBlog().getUser()))
                 .tags(tags)
-                .comments(comments)
+                .comments(comments.getContent())
+                .commentsNextCursor(comments.getPageInfo().getNextCursor())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -43,6 +45,15 @@ public class PostGetResponse {
      * 정적 팩토리 메서드 (댓글 미포함 - 작성/수정 응답용)
      */
     public static PostGetResponse of(Post post, List<String> tags) {
-        return of(post, tags, List.of());
+        return PostGetResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .author(AuthorResponse.from(post.getBlog().getUser()))
+                .tags(tags)
+                .comments(List.of())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
     }
 }
@@ -1,5 +1,6 @@
 package com.likelion.vlog.dto.posts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.likelion.vlog.entity.Post;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,25 +9,30 @@ import java.time.LocalDateTime;
 
 /**
  * GET /api/v1/posts 응답 객체 (목록 조회)
+ * - 본문 전체 대신 요약(excerpt)만 포함
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostListGetResponse {
     private Long postId;
     private String title;
-    private String content;
+    private String excerpt;
     private Integer viewCount;
     private Integer likeCount;
     private AuthorResponse author;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 로그인 사용자의 좋아요 여부 (비로그인 요청이면 응답에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+
 
     public static PostListGetResponse of(Post post) {
         return PostListGetResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .excerpt(post.getExcerpt())
                 .author(AuthorResponse.from(post.getBlog().getUser()))
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
@@ -34,4 +40,8 @@ public class PostListGetResponse {
                 .likeCount(post.getLikeCount())
                 .build();
     }
+
+    public PostListGetResponse withLikedByMe(boolean likedByMe) {
+        return toBuilder().likedByMe(likedByMe).build();
+    }
 }
@@ -0,0 +1,20 @@
+package com.likelion.vlog.dto.tags;
+
+import com.likelion.vlog.index.TagTrie;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * GET /api/v1/tags?prefix= 응답 객체 (태그 자동완성)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagAutocompleteGetResponse {
+    private String title;
+    private long postCount;
+
+    public static TagAutocompleteGetResponse from(TagTrie.Suggestion suggestion) {
+        return new TagAutocompleteGetResponse(suggestion.title(), suggestion.count());
+    }
+}
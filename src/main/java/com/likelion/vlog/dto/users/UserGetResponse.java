@@ -12,6 +12,9 @@ public class UserGetResponse { //유저 상세정보
     private String nickname;
     private Long blogId;
     private String blogTitle;
+    private int followerCount;
+    private int followingCount;
+    private int postCount;
 
     public static UserGetResponse of(User user){
         Long id = user.getId();
@@ -19,6 +22,13 @@ public class UserGetResponse { //유저 상세정보
         String nickname = user.getNickname();
         Long blogId = user.getBlog().getId();
         String blogTitle = user.getBlog().getTitle();
-        return new UserGetResponse(id, email, nickname, blogId, blogTitle);
+        return new UserGetResponse(id, email, nickname, blogId, blogTitle,
+                countOf(user.getFollowerCount()),
+                countOf(user.getFollowingCount()),
+                countOf(user.getBlog().getPostCount()));
+    }
+
+    private static int countOf(Integer count) {
+        return count == null ? 0 : count;
     }
 }
@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -8,11 +9,23 @@ import lombok.Setter;
 
 @Entity
 @Getter
-@Table(name = "blogs")
+@Table(
+        name = "blogs",
+        indexes = @Index(name = "idx_blogs_title_normalized", columnList = "title_normalized")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Blog extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blog_id_generator")
+    @TableGenerator(
+            name = "blog_id_generator",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "blogs",
+            allocationSize = 50
+    )
     @Column(name = "blog_id")
     private Long id;
 
@@ -23,6 +36,14 @@ public class Blog extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    // 검색용 제목 (공백 제거 + 소문자)
+    @Column(name = "title_normalized")
+    private String titleNormalized;
+
+    // 게시글 수 (게시글 작성/삭제 시 원자적으로 갱신)
+    @Column(name = "post_count")
+    private Integer postCount;
+
     /**
      * 블로그 생성 (회원가입 시 자동 생성)
      * - 기본 타이틀: "{닉네임}의 블로그"
@@ -31,6 +52,8 @@ public class Blog extends BaseEntity {
         Blog blog = new Blog();
         blog.user = user;
         blog.title = user.getNickname() + "의 블로그";
+        blog.titleNormalized = TextNormalizer.normalize(blog.title);
+        blog.postCount = 0;
         return blog;
     }
 }
@@ -10,11 +10,27 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // 게시글 댓글 / 댓글 답글 커서 조회 ((created_at, comment_id) 순서로 인덱스만 따라 읽음)
+                @Index(name = "idx_comments_post_parent_created_at", columnList = "post_id, parent_id, created_at, comment_id"),
+                @Index(name = "idx_comments_parent_created_at", columnList = "parent_id, created_at, comment_id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(
+            name = "comment_id_generator",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "comments",
+            allocationSize = 50
+    )
     @Column(name = "comment_id")
     private Long id;
 
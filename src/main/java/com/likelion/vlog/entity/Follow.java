@@ -14,12 +14,26 @@ import lombok.NoArgsConstructor;
                         name = "unique_follower_following",
                         columnNames = {"follower_id", "following_id"}
                 )
+        },
+        indexes = {
+                // 팔로잉/팔로워 목록 커서 조회 ((created_at, follow_id) 순서로 인덱스만 따라 읽음)
+                @Index(name = "idx_follows_follower_created_at", columnList = "follower_id, created_at, follow_id"),
+                @Index(name = "idx_follows_following_created_at", columnList = "following_id, created_at, follow_id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "follow_id_generator")
+    @TableGenerator(
+            name = "follow_id_generator",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "follows",
+            allocationSize = 50
+    )
     @Column(name = "follow_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,20 +11,52 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 목록 정렬별 id 조회용 (InnoDB 보조 인덱스에 post_id 포함 -> 커버링)
+                @Index(name = "idx_posts_created_at", columnList = "created_at"),
+                @Index(name = "idx_posts_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_posts_view_count", columnList = "view_count"),
+                @Index(name = "idx_posts_like_count", columnList = "like_count"),
+                @Index(name = "idx_posts_blog_created_at", columnList = "blog_id, created_at"),
+                @Index(name = "idx_posts_title_normalized", columnList = "title_normalized")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 목록 조회용 본문 요약 길이
+    public static final int EXCERPT_LENGTH = 150;
+
+    // 테이블 기반 pooled 채번 (50개씩 미리 할당) -> insert JDBC batch 가능
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(
+            name = "post_id_generator",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "posts",
+            allocationSize = 50
+    )
     @Column(name = "post_id")
     private Long id;
 
     private String title;
 
+    // 검색용 제목 (공백 제거 + 소문자, 작성/수정 시 갱신)
+    @Column(name = "title_normalized")
+    private String titleNormalized;
+
     @Lob
     @Column(columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // 목록 조회 시 MEDIUMTEXT 본문 대신 사용 (작성/수정 시 갱신)
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Column(name = "view_count")
     private Integer viewCount;
 
@@ -41,7 +74,9 @@ public class Post extends BaseEntity {
     public static Post of(String title, String content, Blog blog) {
         Post post = new Post();
         post.title = title;
+        post.titleNormalized = TextNormalizer.normalize(title);
         post.content = content;
+        post.excerpt = excerptOf(content);
         post.blog = blog;
         post.viewCount = 0;
         post.likeCount = 0;
@@ -51,7 +86,9 @@ public class Post extends BaseEntity {
     // 게시글 수정 메서드
     public void update(String title, String content) {
         this.title = title;
+        this.titleNormalized = TextNormalizer.normalize(title);
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     public void like() {
@@ -65,4 +102,21 @@ public class Post extends BaseEntity {
         }
     }
 
+    // 본문 요약: 연속 공백을 하나로 줄이고 EXCERPT_LENGTH 까지 자름
+    private static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flat = content.replaceAll("\\s+", " ").strip();
+        if (flat.length() <= EXCERPT_LENGTH) {
+            return flat;
+        }
+        int end = EXCERPT_LENGTH;
+        // 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록
+        if (Character.isHighSurrogate(flat.charAt(end - 1))) {
+            end--;
+        }
+        return flat.substring(0, end);
+    }
+
 }
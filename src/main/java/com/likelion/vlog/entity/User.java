@@ -2,6 +2,7 @@ package com.likelion.vlog.entity;
 
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
+import com.likelion.vlog.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CurrentTimestamp;
@@ -12,11 +13,26 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_users_nickname_normalized", columnList = "nickname_normalized"),
+                @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(
+            name = "user_id_generator",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "users",
+            allocationSize = 50
+    )
     @Column(name = "user_id")
     private Long id;
 
@@ -31,6 +47,21 @@ public class User extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String nickname;
 
+    // 검색용 닉네임 (공백 제거 + 소문자)
+    @Column(name = "nickname_normalized")
+    private String nicknameNormalized;
+
+    // 팔로워/팔로잉 수 (follows 건수를 팔로우/언팔로우 시 원자적으로 갱신)
+    @Column(name = "follower_count")
+    private Integer followerCount;
+
+    @Column(name = "following_count")
+    private Integer followingCount;
+
+    // 탈퇴 시각 (값이 있으면 탈퇴 처리된 계정, 연관 데이터는 AccountPurgeJob 이 정리)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
 
     @PrePersist
     private void prePersist() {
@@ -42,6 +73,7 @@ public class User extends BaseEntity {
 
         if (requestDto.getNickname() != null) {
             this.nickname = requestDto.getNickname();
+            this.nicknameNormalized = TextNormalizer.normalize(this.nickname);
         }
 
         if (requestDto.getPassword() != null) {
@@ -50,11 +82,25 @@ public class User extends BaseEntity {
     }
 
 
+    public void markDeleted() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+
     public static User of(SignupRequest signupRequest, PasswordEncoder passwordEncoder){
         User user = new User();
         user.email = signupRequest.getEmail();
         user.password = passwordEncoder.encode(signupRequest.getPassword());
         user.nickname = signupRequest.getNickname();
+        user.nicknameNormalized = TextNormalizer.normalize(user.nickname);
+        user.followerCount = 0;
+        user.followingCount = 0;
         return user;
     }
 
@@ -0,0 +1,21 @@
+package com.likelion.vlog.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum PageMode {
+    OFFSET, SLICE, CURSOR;
+
+    @JsonCreator
+    public static PageMode from(String value) {
+        if (value == null) return null;
+        return PageMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @JsonValue
+    public String toValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
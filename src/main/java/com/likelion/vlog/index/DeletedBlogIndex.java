@@ -0,0 +1,61 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.entity.QBlog;
+import com.likelion.vlog.util.TransactionUtils;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴 처리 후 아직 정리(purge)되지 않은 블로그 id
+ * - 게시글 목록/상세 조회에서 이 블로그의 글을 숨기는 데 사용
+ * - 애플리케이션 시작 시 users.deleted_at 이 있는 계정의 블로그 적재
+ * - 탈퇴 시 커밋 후 추가, AccountPurgeJob 이 정리를 마치면 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletedBlogIndex {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final Set<Long> blogIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        QBlog blog = QBlog.blog;
+
+        List<Long> ids = jpaQueryFactory
+                .select(blog.id)
+                .from(blog)
+                .where(blog.user.deletedAt.isNotNull())
+                .fetch();
+
+        blogIds.addAll(ids);
+        log.info("DeletedBlogIndex loaded: blogs={}", ids.size());
+    }
+
+    public void add(Long blogId) {
+        TransactionUtils.afterCommit(() -> blogIds.add(blogId));
+    }
+
+    public void remove(Long blogId) {
+        blogIds.remove(blogId);
+    }
+
+    public boolean contains(Long blogId) {
+        return blogIds.contains(blogId);
+    }
+
+    public Set<Long> getBlogIds() {
+        return Collections.unmodifiableSet(blogIds);
+    }
+}
@@ -0,0 +1,287 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.entity.QFollow;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.util.TransactionUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팔로우 관계 인메모리 그래프
+ * - 사용자 id -> 팔로잉 id 정렬 배열(long[]), 사용자 id -> 팔로워 id 정렬 배열 (엔티티/박싱 없음)
+ * - 배열은 변경 시 새로 만들어 교체 (읽기는 잠금 없이 이진 탐색 / 병합)
+ * - 애플리케이션 시작 시 전체 적재 (탈퇴 처리된 계정의 관계 제외), 이후 팔로우/언팔로우/탈퇴 시 커밋 후 갱신
+ * - 적재 중 들어온 갱신은 모아 두었다가 스냅샷 반영 후 다시 적용 (스냅샷이 덮어쓰지 않도록)
+ * - 메트릭: vlog.follow.graph.edges (관계 수), vlog.follow.graph.bytes (추정 메모리),
+ *   vlog.follow.graph.bytes.per.edge
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    // 배열 헤더 + 맵 항목(노드, Long 키) 추정 크기
+    private static final int ARRAY_OVERHEAD = 16;
+    private static final int ENTRY_OVERHEAD = 48;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, long[]> followings = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> followers = new ConcurrentHashMap<>();
+    private final AtomicLong edges = new AtomicLong();
+
+    private volatile boolean ready;
+
+    // 적재 중 들어온 갱신 (적재 중이 아니면 null), updateLock 으로 보호
+    private final Object updateLock = new Object();
+    private List<Runnable> pendingUpdates;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("vlog.follow.graph.edges", edges, AtomicLong::get)
+                .description("팔로우 그래프 관계 수")
+                .register(meterRegistry);
+        Gauge.builder("vlog.follow.graph.bytes", this, FollowGraph::estimatedBytes)
+                .description("팔로우 그래프 추정 메모리 (byte)")
+                .register(meterRegistry);
+        Gauge.builder("vlog.follow.graph.bytes.per.edge", this,
+                        graph -> graph.edges.get() == 0 ? 0 : (double) graph.estimatedBytes() / graph.edges.get())
+                .description("팔로우 관계 하나당 추정 메모리 (byte)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (updateLock) {
+            pendingUpdates = new ArrayList<>();
+        }
+
+        QFollow follow = QFollow.follow;
+        QUser follower = new QUser("follower");
+        QUser following = new QUser("following");
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(follow.follower.id, follow.following.id)
+                .from(follow)
+                .join(follow.follower, follower)
+                .join(follow.following, following)
+                .where(follower.deletedAt.isNull(), following.deletedAt.isNull())
+                .fetch();
+
+        List<long[]> edgeList = rows.stream()
+                .map(row -> new long[]{row.get(follow.follower.id), row.get(follow.following.id)})
+                .toList();
+
+        Map<Long, long[]> followingSnapshot = build(edgeList, 0);
+        Map<Long, long[]> followerSnapshot = build(edgeList, 1);
+
+        int replayed;
+        synchronized (updateLock) {
+            followings.putAll(followingSnapshot);
+            followers.putAll(followerSnapshot);
+            edges.set(rows.size());
+            // 조회 이후 커밋된 갱신 재적용 (조회에 이미 포함된 경우 insert/delete 가 변화 없이 끝남)
+            replayed = pendingUpdates.size();
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+            ready = true;
+        }
+        log.info("FollowGraph loaded: users={}, edges={}, replayed={}", followings.size(), rows.size(), replayed);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * followerId 가 followingId 를 팔로우하는지
+     */
+    public boolean follows(Long followerId, Long followingId) {
+        return Arrays.binarySearch(followings.getOrDefault(followerId, EMPTY), followingId) >= 0;
+    }
+
+    /**
+     * candidates 중 userId 가 팔로우하는 사용자 id
+     */
+    public Set<Long> followingAmong(Long userId, Collection<Long> candidates) {
+        long[] targets = followings.getOrDefault(userId, EMPTY);
+        Set<Long> result = new HashSet<>();
+        for (Long candidate : candidates) {
+            if (Arrays.binarySearch(targets, candidate) >= 0) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 팔로잉 id (오름차순, 읽기 전용으로 사용)
+     */
+    public long[] followingsOf(Long userId) {
+        return followings.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 팔로워 id (오름차순, 읽기 전용으로 사용)
+     */
+    public long[] followersOf(Long userId) {
+        return followers.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 맞팔로우 id (팔로잉 ∩ 팔로워, 오름차순 병합)
+     */
+    public long[] mutualsOf(Long userId) {
+        long[] out = followingsOf(userId);
+        long[] in = followersOf(userId);
+        long[] result = new long[Math.min(out.length, in.length)];
+
+        int i = 0, j = 0, size = 0;
+        while (i < out.length && j < in.length) {
+            if (out[i] == in[j]) {
+                result[size++] = out[i];
+                i++;
+                j++;
+            } else if (out[i] < in[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    public void add(Long followerId, Long followingId) {
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            if (insert(followings, followerId, followingId)) {
+                insert(followers, followingId, followerId);
+                edges.incrementAndGet();
+            }
+        }));
+    }
+
+    public void remove(Long followerId, Long followingId) {
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            if (delete(followings, followerId, followingId)) {
+                delete(followers, followingId, followerId);
+                edges.decrementAndGet();
+            }
+        }));
+    }
+
+    /**
+     * 사용자의 모든 관계 제거 (탈퇴 처리 시, 행은 탈퇴 계정 정리 작업이 삭제)
+     * - 팔로워/팔로잉/맞팔로우 목록과 개수가 그래프 배열 길이를 그대로 쓰므로 탈퇴 시점에 바로 제외
+     */
+    public void removeUser(Long userId) {
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            for (long followingId : followingsOf(userId)) {
+                if (delete(followings, userId, followingId)) {
+                    delete(followers, followingId, userId);
+                    edges.decrementAndGet();
+                }
+            }
+            for (long followerId : followersOf(userId)) {
+                if (delete(followings, followerId, userId)) {
+                    delete(followers, userId, followerId);
+                    edges.decrementAndGet();
+                }
+            }
+        }));
+    }
+
+    // 적재 중이면 모아 두고 (load 가 스냅샷 반영 후 실행), 아니면 바로 반영
+    private void apply(Runnable update) {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+                return;
+            }
+        }
+        update.run();
+    }
+
+    long estimatedBytes() {
+        return bytesOf(followings) + bytesOf(followers);
+    }
+
+    private static long bytesOf(Map<Long, long[]> adjacency) {
+        long bytes = 0;
+        for (long[] ids : adjacency.values()) {
+            bytes += ENTRY_OVERHEAD + ARRAY_OVERHEAD + 8L * ids.length;
+        }
+        return bytes;
+    }
+
+    // (팔로워, 팔로잉) 목록을 keyIndex 쪽 id 기준 정렬 배열로 묶음 (배열 크기를 먼저 세어 한 번에 할당)
+    private static Map<Long, long[]> build(List<long[]> edgeList, int keyIndex) {
+        int valueIndex = 1 - keyIndex;
+        Map<Long, Integer> sizes = new HashMap<>();
+        edgeList.forEach(edge -> sizes.merge(edge[keyIndex], 1, Integer::sum));
+
+        Map<Long, long[]> adjacency = new HashMap<>();
+        Map<Long, Integer> filled = new HashMap<>();
+        for (long[] edge : edgeList) {
+            long[] ids = adjacency.computeIfAbsent(edge[keyIndex], key -> new long[sizes.get(key)]);
+            ids[filled.merge(edge[keyIndex], 1, Integer::sum) - 1] = edge[valueIndex];
+        }
+        adjacency.values().forEach(Arrays::sort);
+        return adjacency;
+    }
+
+    private static boolean insert(Map<Long, long[]> adjacency, Long key, long value) {
+        boolean[] changed = new boolean[1];
+        adjacency.compute(key, (k, ids) -> {
+            long[] current = ids == null ? EMPTY : ids;
+            int index = Arrays.binarySearch(current, value);
+            if (index >= 0) return ids;
+
+            int insertAt = -index - 1;
+            long[] next = new long[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = value;
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            changed[0] = true;
+            return next;
+        });
+        return changed[0];
+    }
+
+    private static boolean delete(Map<Long, long[]> adjacency, Long key, long value) {
+        boolean[] changed = new boolean[1];
+        adjacency.computeIfPresent(key, (k, ids) -> {
+            int index = Arrays.binarySearch(ids, value);
+            if (index < 0) return ids;
+
+            changed[0] = true;
+            if (ids.length == 1) return null;
+            long[] next = new long[ids.length - 1];
+            System.arraycopy(ids, 0, next, 0, index);
+            System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+            return next;
+        });
+        return changed[0];
+    }
+}
@@ -0,0 +1,164 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * n-gram 역색인 (id -> 문자열)
+ * - 문자열은 공백 제거 + 소문자로 정규화해서 저장
+ * - 1-gram / 2-gram 포스팅 리스트를 id 오름차순으로 유지
+ * - 검색: 2-gram 포스팅 교집합으로 후보를 좁힌 뒤 원문 포함 여부로 최종 확인 (LIKE '%x%' 와 동일한 결과)
+ */
+public class NgramIndex {
+
+    private static final int GRAM = 2;
+
+    private final Map<Long, String> documents = new HashMap<>();
+    private final Map<String, TreeSet<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            putInternal(id, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이미 색인된 id 는 건너뜀 (초기 적재 중 들어온 최신 변경을 덮어쓰지 않기 위함)
+     */
+    public void putIfAbsent(Long id, String text) {
+        lock.writeLock().lock();
+        try {
+            if (!documents.containsKey(id)) {
+                putInternal(id, text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화된 키워드를 포함하는 id 목록 (오름차순)
+     * @param prefix true 면 키워드로 시작하는 문자열만 (LIKE 'x%')
+     */
+    public SortedSet<Long> search(String normalizedKeyword, boolean prefix) {
+        if (normalizedKeyword == null || normalizedKeyword.isEmpty()) return new TreeSet<>();
+
+        lock.readLock().lock();
+        try {
+            if (normalizedKeyword.length() < GRAM) {
+                TreeSet<Long> posting = postings.getOrDefault(normalizedKeyword, new TreeSet<>());
+                TreeSet<Long> result = new TreeSet<>();
+                for (Long id : posting) {
+                    if (matches(documents.get(id), normalizedKeyword, prefix)) {
+                        result.add(id);
+                    }
+                }
+                return result;
+            }
+
+            // 포스팅이 짧은 gram 부터 교집합
+            List<TreeSet<Long>> lists = new ArrayList<>();
+            for (String gram : grams(normalizedKeyword, GRAM)) {
+                TreeSet<Long> posting = postings.get(gram);
+                if (posting == null) return new TreeSet<>();
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(TreeSet::size));
+
+            TreeSet<Long> result = new TreeSet<>();
+            for (Long id : lists.get(0)) {
+                if (containsInAll(lists, id) && matches(documents.get(id), normalizedKeyword, prefix)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(Long id, String text) {
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized == null || normalized.isEmpty()) return;
+
+        documents.put(id, normalized);
+        for (String gram : allGrams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Long id) {
+        String previous = documents.remove(id);
+        if (previous == null) return;
+
+        for (String gram : allGrams(previous)) {
+            TreeSet<Long> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean matches(String document, String keyword, boolean prefix) {
+        return prefix ? document.startsWith(keyword) : document.contains(keyword);
+    }
+
+    private static boolean containsInAll(List<TreeSet<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) return false;
+        }
+        return true;
+    }
+
+    private static Set<String> allGrams(String text) {
+        Set<String> grams = new HashSet<>(grams(text, 1));
+        grams.addAll(grams(text, GRAM));
+        return grams;
+    }
+
+    private static Set<String> grams(String text, int n) {
+        if (text.length() < n) return Collections.emptySet();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,122 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.entity.QBlog;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.util.TextNormalizer;
+import com.likelion.vlog.util.TransactionUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+
+/**
+ * 게시글 키워드 검색용 인메모리 역색인
+ * - TITLE: post_id -> 게시글 제목
+ * - BLOG: blog_id -> 블로그 제목
+ * - NICKNAME: blog_id -> 작성자 닉네임 (Blog : User = 1 : 1 이므로 blog_id 로 색인)
+ * - 애플리케이션 시작 시 전체 적재, 이후 쓰기 경로(PostService / UserService / AuthService)에서 커밋 후 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    // 이보다 많이 매칭되면 IN 목록이 오히려 비싸므로 SQL 검색으로 대체
+    private static final int MAX_MATCHES = 1000;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final NgramIndex postTitles = new NgramIndex();
+    private final NgramIndex blogTitles = new NgramIndex();
+    private final NgramIndex nicknames = new NgramIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        QPost post = QPost.post;
+        QBlog blog = QBlog.blog;
+        QUser user = QUser.user;
+
+        List<Tuple> posts = jpaQueryFactory
+                .select(post.id, post.title)
+                .from(post)
+                .fetch();
+        posts.forEach(row -> postTitles.putIfAbsent(row.get(post.id), row.get(post.title)));
+
+        List<Tuple> blogs = jpaQueryFactory
+                .select(blog.id, blog.title, user.nickname)
+                .from(blog)
+                .join(blog.user, user)
+                .fetch();
+        blogs.forEach(row -> {
+            blogTitles.putIfAbsent(row.get(blog.id), row.get(blog.title));
+            nicknames.putIfAbsent(row.get(blog.id), row.get(user.nickname));
+        });
+
+        ready = true;
+        log.info("PostSearchIndex loaded: posts={}, blogs={}", postTitles.size(), blogTitles.size());
+    }
+
+    /**
+     * 키워드에 매칭되는 id 목록 (오름차순)
+     * - TITLE 이면 post_id, BLOG / NICKNAME 이면 blog_id
+     * - 색인 준비 전이거나 매칭이 너무 많으면 empty -> 호출 측에서 SQL 검색으로 대체
+     */
+    public Optional<List<Long>> find(SearchFiled search, String keyword, boolean prefix) {
+        if (!ready || search == null || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        String normalized = TextNormalizer.normalize(keyword);
+        SortedSet<Long> ids = switch (search) {
+            case TITLE -> postTitles.search(normalized, prefix);
+            case BLOG -> blogTitles.search(normalized, prefix);
+            case NICKNAME -> nicknames.search(normalized, prefix);
+        };
+
+        if (ids.size() > MAX_MATCHES) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(ids));
+    }
+
+    public void putPost(Long postId, String title) {
+        TransactionUtils.afterCommit(() -> postTitles.put(postId, title));
+    }
+
+    public void removePost(Long postId) {
+        TransactionUtils.afterCommit(() -> postTitles.remove(postId));
+    }
+
+    public void removePosts(List<Long> postIds) {
+        TransactionUtils.afterCommit(() -> postIds.forEach(postTitles::remove));
+    }
+
+    public void putBlog(Long blogId, String title, String nickname) {
+        TransactionUtils.afterCommit(() -> {
+            blogTitles.put(blogId, title);
+            nicknames.put(blogId, nickname);
+        });
+    }
+
+    public void putNickname(Long blogId, String nickname) {
+        TransactionUtils.afterCommit(() -> nicknames.put(blogId, nickname));
+    }
+
+    public void removeBlog(Long blogId) {
+        TransactionUtils.afterCommit(() -> {
+            blogTitles.remove(blogId);
+            nicknames.remove(blogId);
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.likelion.vlog.util.TransactionUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 자동완성 색인
+ * - 전체 태그 이름을 TagTrie 에 적재, 노드별 사용 횟수(tag_maps 건수) 상위 TOP_K 유지
+ * - 애플리케이션 시작 시 새 트라이에 전체 적재 후 교체, 이후 태그 매핑 추가/삭제 시 커밋 후 사용 횟수만 갱신
+ * - 적재 중(조회 시작 이후) 들어온 갱신은 새 트라이에 다시 적용 (이전 트라이에 쌓인 값과 중복 집계하지 않음)
+ * - 조회는 DB 를 거치지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagAutocompleteIndex {
+
+    public static final int TOP_K = 10;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private volatile TagTrie trie = new TagTrie(TOP_K);
+
+    // 적재 중 들어온 사용 횟수 변경 (적재 중이 아니면 null), updateLock 으로 보호
+    private final Object updateLock = new Object();
+    private List<Map.Entry<String, Long>> pendingUpdates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (updateLock) {
+            pendingUpdates = new ArrayList<>();
+        }
+
+        QTag tag = QTag.tag;
+        QTagMap tagMap = QTagMap.tagMap;
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(tag.title, tagMap.id.count())
+                .from(tag)
+                .leftJoin(tagMap).on(tagMap.tag.eq(tag))
+                .groupBy(tag.id, tag.title)
+                .fetch();
+
+        TagTrie loaded = new TagTrie(TOP_K);
+        rows.forEach(row -> loaded.add(row.get(tag.title), row.get(tagMap.id.count())));
+
+        synchronized (updateLock) {
+            pendingUpdates.forEach(update -> loaded.add(update.getKey(), update.getValue()));
+            pendingUpdates = null;
+            trie = loaded;
+        }
+        log.info("TagAutocompleteIndex loaded: tags={}", rows.size());
+    }
+
+    /**
+     * 접두사로 시작하는 태그 (사용 횟수 내림차순, 최대 TOP_K 개)
+     */
+    public List<TagTrie.Suggestion> suggest(String prefix, int size) {
+        return trie.search(prefix, Math.max(1, Math.min(size, TOP_K)));
+    }
+
+    /**
+     * 태그 매핑 추가 (새 태그면 트라이에 추가)
+     */
+    public void addUsages(Collection<String> titles) {
+        List<String> copied = List.copyOf(titles);
+        TransactionUtils.afterCommit(() -> copied.forEach(title -> apply(title, 1)));
+    }
+
+    /**
+     * 태그 매핑 삭제 (태그 자체는 남으므로 사용 횟수만 감소)
+     */
+    public void removeUsages(Collection<String> titles) {
+        List<String> copied = List.copyOf(titles);
+        TransactionUtils.afterCommit(() -> copied.forEach(title -> apply(title, -1)));
+    }
+
+    // 현재 트라이에 반영하고, 적재 중이면 새 트라이에 다시 적용하도록 보관
+    private void apply(String title, long delta) {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(Map.entry(title, delta));
+            }
+            trie.add(title, delta);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.util.TransactionUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 필터용 인메모리 비트맵 색인 (Roaring Bitmap)
+ * - tag_id -> post_id 비트맵
+ * - blog_id -> post_id 비트맵 (블로그 필터와 교집합 / 건수 계산용)
+ * - AND: 교집합, OR: 합집합, NAND: 전체 게시글 - 합집합
+ * - 애플리케이션 시작 시 전체 적재, 이후 PostService 쓰기 경로에서 커밋 후 갱신
+ * - 적재 중 들어온 갱신은 모아 두었다가 조회 결과 반영 후 다시 적용 (조회 결과가 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagBitmapIndex {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final Map<Long, RoaringBitmap> postsByTag = new HashMap<>();
+    private final Map<String, Long> tagIdsByTitle = new HashMap<>();
+    private final Map<Long, RoaringBitmap> postsByBlog = new HashMap<>();
+    private final RoaringBitmap allPosts = new RoaringBitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    // 적재 중 들어온 갱신 (적재 중이 아니면 null), lock 의 쓰기 잠금으로 보호
+    private List<Runnable> pendingUpdates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        QTag tag = QTag.tag;
+        QTagMap tagMap = QTagMap.tagMap;
+        QPost post = QPost.post;
+
+        List<Tuple> tags = jpaQueryFactory
+                .select(tag.id, tag.title)
+                .from(tag)
+                .fetch();
+        List<Tuple> tagMaps = jpaQueryFactory
+                .select(tagMap.tag.id, tagMap.post.id)
+                .from(tagMap)
+                .fetch();
+        List<Tuple> posts = jpaQueryFactory
+                .select(post.id, post.blog.id)
+                .from(post)
+                .fetch();
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            tags.forEach(row -> tagIdsByTitle.putIfAbsent(titleKey(row.get(tag.title)), row.get(tag.id)));
+            tagMaps.forEach(row -> bitmap(postsByTag, row.get(tagMap.tag.id)).add(toInt(row.get(tagMap.post.id))));
+            posts.forEach(row -> {
+                int postId = toInt(row.get(post.id));
+                allPosts.add(postId);
+                bitmap(postsByBlog, row.get(post.blog.id)).add(postId);
+            });
+            // 조회 이후 커밋된 갱신 재적용 (조회에 이미 포함된 경우 같은 결과, 삭제된 글은 다시 빠짐)
+            replayed = pendingUpdates.size();
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+
+            postsByTag.values().forEach(RoaringBitmap::runOptimize);
+            postsByBlog.values().forEach(RoaringBitmap::runOptimize);
+            allPosts.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("TagBitmapIndex loaded: tags={}, tagMaps={}, posts={}, replayed={}",
+                tags.size(), tagMaps.size(), posts.size(), replayed);
+    }
+
+    /**
+     * 태그 조건을 만족하는 게시글 비트맵 (호출 측에서 자유롭게 수정 가능한 복사본)
+     * - 색인 준비 전이거나 태그 조건이 없으면 empty -> 호출 측에서 SQL 로 대체
+     */
+    public Optional<RoaringBitmap> match(TagMode mode, List<String> tags) {
+        List<String> titles = sanitize(tags);
+        if (!ready || mode == null || titles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (String title : titles) {
+                RoaringBitmap bitmap = postsOf(title);
+                // AND 인데 없는 태그가 하나라도 있으면 결과 없음
+                if (bitmap == null && mode == TagMode.AND) return Optional.of(new RoaringBitmap());
+                if (bitmap != null) bitmaps.add(bitmap);
+            }
+
+            return Optional.of(switch (mode) {
+                case AND -> FastAggregation.and(bitmaps.iterator());
+                case OR -> union(bitmaps);
+                case NAND -> RoaringBitmap.andNot(allPosts, union(bitmaps));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 블로그들의 게시글 비트맵 (합집합 복사본)
+     */
+    public RoaringBitmap postsOfBlogs(Collection<Long> blogIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = new RoaringBitmap();
+            for (Long blogId : blogIds) {
+                RoaringBitmap bitmap = postsByBlog.get(blogId);
+                if (bitmap != null) result.or(bitmap);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addPost(Long postId, Long blogId) {
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            allPosts.add(toInt(postId));
+            bitmap(postsByBlog, blogId).add(toInt(postId));
+        }));
+    }
+
+    public void addTags(Long postId, Collection<Tag> tags) {
+        List<Long> tagIds = new ArrayList<>();
+        Map<String, Long> titles = new HashMap<>();
+        tags.forEach(tag -> {
+            tagIds.add(tag.getId());
+            titles.put(titleKey(tag.getTitle()), tag.getId());
+        });
+
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            tagIdsByTitle.putAll(titles);
+            tagIds.forEach(tagId -> bitmap(postsByTag, tagId).add(toInt(postId)));
+        }));
+    }
+
+    public void removeTags(Long postId, Collection<Long> tagIds) {
+        List<Long> copied = List.copyOf(tagIds);
+        TransactionUtils.afterCommit(() -> apply(() -> copied.forEach(tagId -> {
+            RoaringBitmap bitmap = postsByTag.get(tagId);
+            if (bitmap != null) bitmap.remove(toInt(postId));
+        })));
+    }
+
+    public void removePost(Long postId) {
+        removePosts(List.of(postId));
+    }
+
+    public void removePosts(Collection<Long> postIds) {
+        RoaringBitmap removed = new RoaringBitmap();
+        postIds.forEach(postId -> removed.add(toInt(postId)));
+
+        TransactionUtils.afterCommit(() -> apply(() -> {
+            allPosts.andNot(removed);
+            postsByTag.values().forEach(bitmap -> bitmap.andNot(removed));
+            postsByBlog.values().forEach(bitmap -> bitmap.andNot(removed));
+        }));
+    }
+
+    // 쓰기 잠금 안에서 바로 반영, 적재 중이면 load 가 조회 결과 반영 후 다시 적용하도록 함께 기록
+    private void apply(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RoaringBitmap postsOf(String title) {
+        Long tagId = tagIdsByTitle.get(titleKey(title));
+        return tagId == null ? null : postsByTag.get(tagId);
+    }
+
+    private static RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+        return bitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.or(bitmaps.iterator());
+    }
+
+    // tags.title 은 대소문자 무시 collation 으로 비교되므로 색인 키도 소문자로 통일
+    private static String titleKey(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    private static RoaringBitmap bitmap(Map<Long, RoaringBitmap> bitmaps, Long key) {
+        return bitmaps.computeIfAbsent(key, k -> new RoaringBitmap());
+    }
+
+    private static List<String> sanitize(List<String> tags) {
+        if (tags == null) return List.of();
+        return tags.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // post_id 는 int 범위를 넘지 않는다고 가정 (넘으면 예외)
+    private static int toInt(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,170 @@
+package com.likelion.vlog.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 자동완성용 압축 트라이 (radix tree)
+ * - 키: 소문자로 변환한 태그 이름, 공통 접두사를 한 간선으로 압축
+ * - 노드마다 하위 태그 중 사용 횟수 상위 K 개를 미리 계산해 둠 -> 조회는 접두사 탐색 + 목록 반환
+ * - 사용 횟수가 바뀌면 해당 태그 경로의 상위 K 만 아래에서 위로 다시 계산
+ */
+public class TagTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::count).reversed()
+            .thenComparing(Suggestion::title);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TagTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * @param title 태그 이름 (표시용 원문)
+     * @param count 사용 횟수 (tag_maps 건수)
+     */
+    public record Suggestion(String title, long count) {
+    }
+
+    /**
+     * 태그 사용 횟수 변경 (없는 태그면 추가)
+     */
+    public void add(String title, long delta) {
+        String key = key(title);
+        if (key.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = insert(key, path);
+            long count = Math.max(0, (node.terminal == null ? 0 : node.terminal.count()) + delta);
+            node.terminal = new Suggestion(node.terminal == null ? title : node.terminal.title(), count);
+
+            // 변경된 태그 경로만 아래에서 위로 상위 K 재계산
+            for (int i = path.size() - 1; i >= 0; i--) {
+                recomputeTop(path.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 태그를 사용 횟수 순으로 최대 limit 개 (limit 은 K 이하로 제한, 0 이하면 빈 목록)
+     */
+    public List<Suggestion> search(String prefix, int limit) {
+        if (limit <= 0) return List.of();
+        String key = key(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) return List.of();
+            List<Suggestion> top = node.top;
+            return top.size() <= limit ? top : top.subList(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // key 를 삽입하고 루트부터 key 노드까지의 경로를 path 에 담아 반환
+    private Node insert(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int index = 0;
+
+        while (index < key.length()) {
+            char next = key.charAt(index);
+            Node child = node.children.get(next);
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.children.put(next, child);
+                path.add(child);
+                return child;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // 간선 분할: node -> middle(label[0, common)) -> child(label[common, ...))
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.top = child.top;
+                node.children.put(next, middle);
+                child = middle;
+            }
+
+            node = child;
+            path.add(node);
+            index += common;
+        }
+        return node;
+    }
+
+    // 접두사가 끝나는 노드 (간선 중간에서 끝나면 그 간선의 아래 노드)
+    private Node find(String prefix) {
+        Node node = root;
+        int index = 0;
+
+        while (index < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(index));
+            if (child == null) return null;
+
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) return child;
+            if (common < child.label.length()) return null;
+
+            node = child;
+            index += common;
+        }
+        return node;
+    }
+
+    private void recomputeTop(Node node) {
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.terminal != null) candidates.add(node.terminal);
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+
+        candidates.sort(RANKING);
+        node.top = List.copyOf(candidates.size() <= topK ? candidates : candidates.subList(0, topK));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // tags.title 은 대소문자 무시 collation 으로 비교되므로 키도 소문자로 통일
+    private static String key(String title) {
+        return title == null ? "" : title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private Suggestion terminal;
+        private List<Suggestion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.likelion.vlog.job;
+
+import com.likelion.vlog.cache.PostListCache;
+import com.likelion.vlog.counter.LikeCountBuffer;
+import com.likelion.vlog.index.DeletedBlogIndex;
+import com.likelion.vlog.repository.jdbc.AccountPurgeJdbcRepository;
+import com.likelion.vlog.repository.jdbc.AccountPurgeJdbcRepository.PendingAccount;
+import com.likelion.vlog.repository.jdbc.AccountPurgeJdbcRepository.PurgedChunk;
+import com.likelion.vlog.repository.jdbc.AccountPurgeJdbcRepository.Step;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴 계정 정리(purge)
+ * - 탈퇴 요청은 users.deleted_at 만 기록하고 바로 반환, 연관 데이터는 이 작업이 주기적으로 삭제
+ * - 단계(Step)마다 chunk-size 개씩 짧은 트랜잭션으로 삭제
+ * - 진행 상태는 DB 에 남은 행 자체이므로 중간에 멈춰도 다음 실행에서 이어서 진행
+ * - 메트릭: vlog.account.purge.pending (정리 대기 계정), vlog.account.purge.rows (단계별 삭제 행),
+ *   vlog.account.purge.duration (계정 하나 정리 소요시간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPurgeJob {
+
+    private final AccountPurgeJdbcRepository accountPurgeJdbcRepository;
+    private final DeletedBlogIndex deletedBlogIndex;
+    private final LikeCountBuffer likeCountBuffer;
+    private final PostListCache postListCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${vlog.account-purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${vlog.account-purge.batch-size:10}")
+    private int batchSize;
+
+    private final AtomicLong pendingAccounts = new AtomicLong();
+    private Timer purgeTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("vlog.account.purge.pending", pendingAccounts, AtomicLong::get)
+                .description("정리되지 않은 탈퇴 계정 수")
+                .register(meterRegistry);
+        purgeTimer = Timer.builder("vlog.account.purge.duration")
+                .description("탈퇴 계정 하나의 연관 데이터 정리 소요시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.account-purge.interval:60000}")
+    public synchronized void run() {
+        List<PendingAccount> accounts = accountPurgeJdbcRepository.findPendingAccounts(batchSize);
+        for (PendingAccount account : accounts) {
+            try {
+                purgeTimer.record(() -> purge(account));
+            } catch (DataAccessException e) {
+                // 실패한 계정은 다음 주기에 남은 단계부터 다시 시도
+                log.warn("탈퇴 계정 정리 실패: userId={}, cause={}", account.userId(), e.getMessage());
+            }
+        }
+        pendingAccounts.set(accountPurgeJdbcRepository.countPendingAccounts());
+    }
+
+    private void purge(PendingAccount account) {
+        for (Step step : Step.values()) {
+            if (step.isByBlog() && account.blogId() == null) continue;
+
+            long ownerId = step.isByBlog() ? account.blogId() : account.userId();
+            PurgedChunk chunk;
+            do {
+                chunk = accountPurgeJdbcRepository.purgeChunk(step, ownerId, chunkSize);
+                meterRegistry.counter("vlog.account.purge.rows", "step", step.name()).increment(chunk.rows());
+                // like_count 를 직접 감소시킨 게시글: 좋아요 수 캐시와 목록 캐시 제거
+                if (!chunk.touchedPostIds().isEmpty()) {
+                    likeCountBuffer.invalidate(chunk.touchedPostIds());
+                    postListCache.evictLiked(chunk.touchedPostIds());
+                }
+            } while (chunk.rows() == chunkSize);
+        }
+
+        accountPurgeJdbcRepository.deleteAccount(account.userId());
+        if (account.blogId() != null) {
+            deletedBlogIndex.remove(account.blogId());
+        }
+        log.info("탈퇴 계정 정리 완료: userId={}", account.userId());
+    }
+}
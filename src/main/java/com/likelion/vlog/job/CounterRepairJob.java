@@ -0,0 +1,55 @@
+package com.likelion.vlog.job;
+
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository;
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화 카운터 보정
+ * - users.follower_count / following_count, blogs.post_count 를 follows / posts 건수로 다시 계산
+ * - id 범위(chunk-size) 단위로 나눠 범위마다 짧은 트랜잭션으로 처리
+ * - 컬럼 추가 이전 데이터 채우기, 장애 등으로 어긋난 값 복구용
+ * - vlog.repair.counters.enabled=true 일 때 기동 후 백그라운드에서 한 번 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterRepairJob {
+
+    private final CounterJdbcRepository counterJdbcRepository;
+
+    @Value("${vlog.repair.counters.enabled:false}")
+    private boolean enabled;
+
+    @Value("${vlog.repair.counters.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        // chunk-size 가 잘못 설정되면 기동 시점에 실패
+        IdRangeWalker walker = new IdRangeWalker(chunkSize);
+        Thread.ofVirtual().name("counter-repair").start(() -> run(walker));
+    }
+
+    private void run(IdRangeWalker walker) {
+        for (Target target : Target.values()) {
+            try {
+                repair(walker, target);
+            } catch (RuntimeException e) {
+                log.error("카운터 보정 실패: target={}", target, e);
+            }
+        }
+    }
+
+    private void repair(IdRangeWalker walker, Target target) {
+        long maxId = counterJdbcRepository.findMaxId(target);
+        long repaired = walker.walk(maxId, (from, to) -> counterJdbcRepository.repairRange(target, from, to));
+        log.info("카운터 보정 완료: target={}, maxId={}, rows={}", target, maxId, repaired);
+    }
+}
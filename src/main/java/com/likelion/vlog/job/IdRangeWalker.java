@@ -0,0 +1,34 @@
+package com.likelion.vlog.job;
+
+/**
+ * id 범위 단위 일괄 처리 (백필/보정 작업 공용)
+ * - (0, maxId] 를 chunkSize 크기의 (fromExclusive, toInclusive] 범위로 나눠 앞에서부터 차례로 처리
+ * - 범위 하나의 처리(트랜잭션 경계 포함)는 RangeTask 가 담당
+ */
+final class IdRangeWalker {
+
+    private final int chunkSize;
+
+    IdRangeWalker(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk-size 는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return 범위별 처리 행 수 합계
+     */
+    long walk(long maxId, RangeTask task) {
+        long total = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            total += task.process(from, Math.min(from + chunkSize, maxId));
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    interface RangeTask {
+        int process(long fromExclusive, long toInclusive);
+    }
+}
@@ -0,0 +1,102 @@
+package com.likelion.vlog.job;
+
+import com.likelion.vlog.counter.LikeCountBuffer;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.jdbc.PostJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * posts.like_count 보정
+ * - 게시글을 id 순으로 chunk-size 개씩 나눠 likes 건수(LikeRepository.countByPosts)와 비교
+ * - 버퍼에 남은 증감분을 뺀 값과 다르면 해당 게시글만 갱신 (chunk 하나가 트랜잭션 하나)
+ * - 메트릭: vlog.post.likes.reconciled (보정한 게시글 수)
+ */
+@Slf4j
+@Component
+public class LikeCountReconcileJob {
+
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter reconciledCounter;
+
+    @Value("${vlog.like-count.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    public LikeCountReconcileJob(PostRepository postRepository,
+                                 LikeRepository likeRepository,
+                                 PostJdbcRepository postJdbcRepository,
+                                 LikeCountBuffer likeCountBuffer,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.likeRepository = likeRepository;
+        this.postJdbcRepository = postJdbcRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconciledCounter = Counter.builder("vlog.post.likes.reconciled")
+                .description("보정한 게시글 좋아요 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.like-count.reconcile.interval:600000}",
+            initialDelayString = "${vlog.like-count.reconcile.interval:600000}")
+    public void run() {
+        long lastId = 0;
+        long corrected = 0;
+
+        try {
+            List<Long> ids;
+            while (!(ids = postJdbcRepository.findIdsAfter(lastId, chunkSize)).isEmpty()) {
+                List<Long> chunk = ids;
+                corrected += likeCountBuffer.reconcile(() -> transactionTemplate.execute(status -> reconcile(chunk)));
+                lastId = chunk.getLast();
+            }
+        } catch (DataAccessException e) {
+            // 다음 주기에 처음부터 다시 비교
+            log.warn("좋아요 수 보정 중단: lastId={}, cause={}", lastId, e.getMessage());
+        }
+
+        reconciledCounter.increment(corrected);
+        if (corrected > 0) {
+            log.info("좋아요 수 보정: corrected={}", corrected);
+        }
+    }
+
+    private int reconcile(List<Long> postIds) {
+        List<Post> posts = postIds.stream().map(postRepository::getReferenceById).toList();
+        Map<Long, Long> actual = likeRepository.countByPosts(posts).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        Map<Long, Long> stored = postJdbcRepository.findLikeCounts(postIds);
+
+        Map<Long, Long> corrections = new HashMap<>();
+        stored.forEach((postId, storedCount) -> {
+            long expected = likeCountBuffer.expectedPersisted(postId, actual.getOrDefault(postId, 0L));
+            if (storedCount != expected) {
+                corrections.put(postId, expected);
+            }
+        });
+        if (corrections.isEmpty()) return 0;
+
+        postJdbcRepository.updateLikeCounts(corrections);
+        likeCountBuffer.invalidate(corrections.keySet());
+        return corrections.size();
+    }
+}
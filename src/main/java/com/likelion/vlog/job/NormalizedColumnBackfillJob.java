@@ -0,0 +1,55 @@
+package com.likelion.vlog.job;
+
+import com.likelion.vlog.repository.jdbc.NormalizedColumnJdbcRepository;
+import com.likelion.vlog.repository.jdbc.NormalizedColumnJdbcRepository.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색용 정규화 컬럼 백필
+ * - 컬럼 추가 이전에 저장된 행의 posts.title_normalized / blogs.title_normalized / users.nickname_normalized 채움
+ * - id 범위(chunk-size) 단위로 나눠 범위마다 짧은 트랜잭션으로 처리
+ * - 비어 있는 행만 채우므로 중간에 멈춰도 다시 실행하면 이어서 진행
+ * - vlog.backfill.normalized-columns.enabled=true 일 때 기동 후 백그라운드에서 한 번 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NormalizedColumnBackfillJob {
+
+    private final NormalizedColumnJdbcRepository normalizedColumnJdbcRepository;
+
+    @Value("${vlog.backfill.normalized-columns.enabled:false}")
+    private boolean enabled;
+
+    @Value("${vlog.backfill.normalized-columns.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        // chunk-size 가 잘못 설정되면 기동 시점에 실패
+        IdRangeWalker walker = new IdRangeWalker(chunkSize);
+        Thread.ofVirtual().name("normalized-column-backfill").start(() -> run(walker));
+    }
+
+    private void run(IdRangeWalker walker) {
+        for (Target target : Target.values()) {
+            try {
+                backfill(walker, target);
+            } catch (RuntimeException e) {
+                log.error("정규화 컬럼 백필 실패: target={}", target, e);
+            }
+        }
+    }
+
+    private void backfill(IdRangeWalker walker, Target target) {
+        long maxId = normalizedColumnJdbcRepository.findMaxId(target);
+        long updated = walker.walk(maxId, (from, to) -> normalizedColumnJdbcRepository.fillRange(target, from, to));
+        log.info("정규화 컬럼 백필 완료: target={}, maxId={}, updated={}", target, maxId, updated);
+    }
+}
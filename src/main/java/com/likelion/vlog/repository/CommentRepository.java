@@ -2,10 +2,14 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,24 +18,52 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     int countByPost(Post post);
 
-    void deleteAllByPostId(Long postId);
+    // 게시글의 대댓글 일괄 삭제 (부모 댓글보다 먼저, parent_id FK)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId AND c.parent IS NOT NULL")
+    void deleteRepliesByPostId(@Param("postId") Long postId);
 
-    // User가 작성한 모든 댓글 삭제
-    void deleteAllByUserId(Long userId);
-
-    // User의 Blog에 속한 Post들의 모든 댓글 삭제
-    void deleteAllByPostBlogUserId(Long userId);
+    // 게시글의 댓글 일괄 삭제 (대댓글 삭제 후 호출)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
 
     // N+1 해결: 여러 Post의 댓글 수를 한번에 조회
     @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post IN :posts GROUP BY c.post.id")
     List<Object[]> countByPosts(@Param("posts") List<Post> posts);
 
-    // 게시글의 댓글과 대댓글을 함께 조회 (N+1 해결)
-    @Query("SELECT DISTINCT c FROM Comment c " +
-            "LEFT JOIN FETCH c.user " +
-            "LEFT JOIN FETCH c.children ch " +
-            "LEFT JOIN FETCH ch.user " +
-            "WHERE c.post = :post AND c.parent IS NULL " +
-            "ORDER BY c.createdAt ASC")
-    List<Comment> findAllByPostWithChildren(@Param("post") Post post);
+    // 게시글의 댓글 커서 조회 (대댓글 제외, (created_at, comment_id) 오름차순, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.id = :postId AND c.parent IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findWithUserByPostIdAfter(@Param("postId") Long postId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("commentId") Long commentId,
+                                            Pageable pageable);
+
+    // 댓글의 답글 커서 조회 ((created_at, comment_id) 오름차순, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.parent.id = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findWithUserByParentIdAfter(@Param("parentId") Long parentId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("commentId") Long commentId,
+                                              Pageable pageable);
+
+    // N+1 해결: 여러 댓글의 답글 수를 한번에 조회
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // 댓글별 앞 limit 개 답글 id (댓글 수와 무관하게 쿼리 한 번)
+    @Query(value = "SELECT ranked.comment_id FROM (" +
+            "SELECT comment_id, ROW_NUMBER() OVER (PARTITION BY parent_id ORDER BY created_at, comment_id) AS rn " +
+            "FROM comments WHERE parent_id IN (:parentIds)) ranked " +
+            "WHERE ranked.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    // id 목록으로 댓글 조회 (작성자 함께 조회, 작성 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
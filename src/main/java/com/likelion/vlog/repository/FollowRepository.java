@@ -5,21 +5,75 @@ import com.likelion.vlog.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
-    Page<Follow> findByFollower(User follower, Pageable pageable);
 
-    Page<Follow> findByFollowing(User following, Pageable pageable);
+    // 팔로잉 목록 (팔로우 대상 User 함께 조회, 탈퇴 처리된 계정 제외)
+    // User.blog 는 mappedBy 쪽 즉시 로딩이라 같은 쿼리에서 가져오지 않으면 사용자마다 SELECT 가 추가됨
+    // 조회 대상 사용자(follower)가 탈퇴 처리된 경우도 빈 결과 -> 서비스에서 빈 결과일 때만 사용자 확인
+    @Query(value = "SELECT f FROM Follow f JOIN FETCH f.following u LEFT JOIN FETCH u.blog WHERE f.follower.id = :followerId"
+            + " AND u.deletedAt IS NULL AND f.follower.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(f) FROM Follow f WHERE f.follower.id = :followerId"
+                    + " AND f.following.deletedAt IS NULL AND f.follower.deletedAt IS NULL")
+    Page<Follow> findWithFollowingByFollowerId(@Param("followerId") Long followerId, Pageable pageable);
+
+    // 팔로워 목록 (팔로워 User 함께 조회, 탈퇴 처리된 계정 제외)
+    @Query(value = "SELECT f FROM Follow f JOIN FETCH f.follower u LEFT JOIN FETCH u.blog WHERE f.following.id = :followingId"
+            + " AND u.deletedAt IS NULL AND f.following.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(f) FROM Follow f WHERE f.following.id = :followingId"
+                    + " AND f.follower.deletedAt IS NULL AND f.following.deletedAt IS NULL")
+    Page<Follow> findWithFollowerByFollowingId(@Param("followingId") Long followingId, Pageable pageable);
+
+    // 팔로잉 목록 커서 조회 ((created_at, follow_id) 내림차순, COUNT 없음)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.following u LEFT JOIN FETCH u.blog WHERE f.follower.id = :followerId"
+            + " AND u.deletedAt IS NULL AND f.follower.deletedAt IS NULL"
+            + " AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :followId))"
+            + " ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findWithFollowingByFollowerIdBefore(@Param("followerId") Long followerId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("followId") Long followId,
+                                                     Pageable pageable);
+
+    // 팔로워 목록 커서 조회 ((created_at, follow_id) 내림차순, COUNT 없음)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.follower u LEFT JOIN FETCH u.blog WHERE f.following.id = :followingId"
+            + " AND u.deletedAt IS NULL AND f.following.deletedAt IS NULL"
+            + " AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :followId))"
+            + " ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findWithFollowerByFollowingIdBefore(@Param("followingId") Long followingId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("followId") Long followId,
+                                                     Pageable pageable);
+
+    // N+1 해결: userIds 중 followerId 가 팔로우하는 사용자 id 를 한번에 조회
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :userIds")
+    Set<Long> findFollowingIdsIn(@Param("followerId") Long followerId, @Param("userIds") Collection<Long> userIds);
+
+    // 팔로잉 사용자 id (FollowGraph 적재 전 피드 조회용)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    // 맞팔로우 사용자 id (FollowGraph 적재 전 대체용)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId AND f.following.deletedAt IS NULL"
+            + " AND EXISTS (SELECT 1 FROM Follow b WHERE b.follower = f.following AND b.following.id = :userId)"
+            + " ORDER BY f.following.id")
+    List<Long> findMutualIds(@Param("userId") Long userId);
+
+    // 친구의 친구 (viaIds 가 팔로우하는 사용자별 건수, userId 본인과 이미 팔로우 중인 사용자 제외)
+    // [0]: 사용자 id, [1]: 건수 (FollowGraph 적재 전 팔로우 추천용)
+    @Query("SELECT f.following.id, COUNT(f) FROM Follow f WHERE f.follower.id IN :viaIds AND f.following.id <> :userId"
+            + " AND f.following.id NOT IN (SELECT m.following.id FROM Follow m WHERE m.follower.id = :userId)"
+            + " GROUP BY f.following.id ORDER BY COUNT(f) DESC, f.following.id")
+    List<Object[]> countSecondHop(@Param("userId") Long userId, @Param("viaIds") Collection<Long> viaIds, Pageable pageable);
 
     boolean existsByFollowerAndFollowing(User follower, User following);
 
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
-                                
-    // User가 팔로우한 모든 관계 삭제
-    void deleteAllByFollowerId(Long followerId);
-
-    // User를 팔로우하는 모든 관계 삭제
-    void deleteAllByFollowingId(Long followingId);
 }
@@ -4,6 +4,7 @@ import com.likelion.vlog.entity.Like;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,14 +22,10 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     // 좋아요 엔티티 찾기
     Optional<Like> findByUserIdAndPostId(Long userId, Long postId);
 
-    // 게시글의 모든 좋아요 삭제
-    void deleteAllByPostId(Long postId);
-
-    // User가 누른 모든 좋아요 삭제
-    void deleteAllByUserId(Long userId);
-
-    // User의 Blog에 속한 Post들의 모든 좋아요 삭제
-    void deleteAllByPostBlogUserId(Long userId);
+    // 게시글의 모든 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
 
     // N+1 해결: 여러 Post의 좋아요 수를 한번에 조회
     @Query("SELECT l.post.id, COUNT(l) FROM Like l WHERE l.post IN :posts GROUP BY l.post.id")
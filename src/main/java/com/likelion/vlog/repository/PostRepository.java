@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,16 +24,21 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName AND p.blog.id = :blogId")
     Page<Post> findAllByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId, Pageable pageable);
 
-    // 좋아요 수 원자적 증가
-    @Modifying
-    @Query("UPDATE Post p SET p.likeCount = COALESCE(p.likeCount, 0) + 1 WHERE p.id = :id")
-    void incrementLikeCount(@Param("id") Long id);
-
-    // 좋아요 수 원자적 감소
-    @Modifying
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
-    void decrementLikeCount(@Param("id") Long id);
-
-    // User의 Blog에 속한 모든 Post 삭제
-    void deleteAllByBlogUserId(Long userId);
+    // 게시글 일괄 삭제 (연관 데이터 삭제 후 호출, 영속성 컨텍스트의 삭제된 연관 엔티티를 다시 지우지 않도록 clear)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id = :postId")
+    void deleteByIdInBulk(@Param("postId") Long postId);
+
+    // 작성자들의 (createdAt, postId) 이전 게시글 정렬 키 [createdAt, postId] (최신순, 피드 조회 / 수신함 재구성용)
+    @Query("SELECT p.createdAt, p.id FROM Post p WHERE p.blog.user.id IN :authorIds"
+            + " AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId))"
+            + " ORDER BY p.createdAt DESC, p.id DESC")
+    List<Object[]> findFeedKeysByAuthorIdsBefore(@Param("authorIds") Collection<Long> authorIds,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("postId") Long postId,
+                                                 Pageable pageable);
+
+    // User의 Blog에 속한 모든 Post id (삭제 전 색인 정리용)
+    @Query("SELECT p.id FROM Post p WHERE p.blog.user.id = :userId")
+    List<Long> findIdsByBlogUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
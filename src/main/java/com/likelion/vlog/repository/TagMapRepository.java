@@ -1,25 +1,39 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.Tag;
 import com.likelion.vlog.entity.TagMap;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TagMapRepository extends JpaRepository<TagMap, Long> {
 
     List<TagMap> findAllByPost(Post post);
 
+    // 게시글에 달린 태그 (매핑 + 태그 한 번에 조회)
+    @Query("SELECT t FROM TagMap tm JOIN tm.tag t WHERE tm.post.id = :postId")
+    List<Tag> findTagsByPostId(@Param("postId") Long postId);
+
     @Modifying
     @Query("DELETE FROM TagMap tm WHERE tm.post = :post")
     void deleteAllByPost(@Param("post") Post post);
 
-    // 게시글 ID로 태그 매핑 삭제
-    void deleteAllByPostId(Long postId);
+    // 게시글의 특정 태그 매핑만 삭제 (태그 수정 시 빠진 태그)
+    @Modifying
+    @Query("DELETE FROM TagMap tm WHERE tm.post.id = :postId AND tm.tag.id IN :tagIds")
+    void deleteAllByPostIdAndTagIdIn(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+
+    // 게시글 ID로 태그 매핑 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TagMap tm WHERE tm.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
 
-    // User의 Blog에 속한 Post들의 모든 태그 매핑 삭제
-    void deleteAllByPostBlogUserId(Long userId);
+    // User의 Blog에 속한 Post들의 태그 이름 (매핑 1건당 1개, 자동완성 사용 횟수 차감용)
+    @Query("SELECT t.title FROM TagMap tm JOIN tm.tag t WHERE tm.post.blog.user.id = :userId")
+    List<String> findTagTitlesByPostBlogUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
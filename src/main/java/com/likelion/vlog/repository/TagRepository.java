@@ -3,11 +3,15 @@ package com.likelion.vlog.repository;
 import com.likelion.vlog.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByTitle(String title);
 
+    List<Tag> findByTitleIn(Collection<String> titles);
+
     boolean existsByTitle(String title);
 }
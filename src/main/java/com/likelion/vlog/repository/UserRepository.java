@@ -2,11 +2,19 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 탈퇴 처리되지 않은 사용자 (User.blog 즉시 로딩으로 사용자마다 SELECT 가 추가되지 않도록 함께 조회)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.blog WHERE u.id IN :ids AND u.deletedAt IS NULL")
+    List<User> findActiveWithBlogByIdIn(@Param("ids") Collection<Long> ids);
 }
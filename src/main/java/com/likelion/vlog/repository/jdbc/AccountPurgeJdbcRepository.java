@@ -0,0 +1,137 @@
+package com.likelion.vlog.repository.jdbc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 탈퇴 계정 연관 데이터 정리(purge) JDBC 처리
+ * - 단계별로 id 오름차순 chunk 단위 조회 후 PK IN 으로 삭제 (chunk 하나가 트랜잭션 하나)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountPurgeJdbcRepository {
+
+    private static final String POSTS_OF_BLOG = "post_id IN (SELECT post_id FROM posts WHERE blog_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정리 단계 (FK 참조 순서대로 실행)
+     * - byBlog: 조건의 파라미터가 블로그 id 인지 (false 면 사용자 id)
+     * - beforeDelete: 삭제 전에 삭제 대상 id 목록({ids})으로 실행할 카운터 보정 (없으면 null)
+     * - touchedPosts: beforeDelete 로 like_count 가 바뀐 게시글 id 조회 (캐시 무효화용, 없으면 null)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Step {
+        POST_REPLIES("comments", "comment_id", POSTS_OF_BLOG + " AND parent_id IS NOT NULL", true, null, null),  // 내 게시글의 대댓글
+        POST_COMMENTS("comments", "comment_id", POSTS_OF_BLOG, true, null, null),                                // 내 게시글의 댓글
+        REPLIES_TO_COMMENTS("comments", "comment_id", "parent_id IN (SELECT comment_id FROM comments WHERE user_id = ?)", false, null, null), // 내 댓글에 달린 대댓글
+        USER_REPLIES("comments", "comment_id", "user_id = ? AND parent_id IS NOT NULL", false, null, null),     // 내가 쓴 대댓글
+        USER_COMMENTS("comments", "comment_id", "user_id = ?", false, null, null),                              // 내가 쓴 댓글
+        USER_LIKES("likes", "like_id", "user_id = ?", false,                                                    // 내가 누른 좋아요
+                "UPDATE posts p JOIN likes l ON l.post_id = p.post_id"
+                        + " SET p.like_count = GREATEST(COALESCE(p.like_count, 0) - 1, 0)"
+                        + " WHERE l.like_id IN ({ids})",
+                "SELECT DISTINCT post_id FROM likes WHERE like_id IN ({ids})"),
+        POST_LIKES("likes", "like_id", POSTS_OF_BLOG, true, null, null),                                         // 내 게시글의 좋아요
+        FOLLOWINGS("follows", "follow_id", "follower_id = ?", false,                                            // 내가 팔로우한 관계
+                "UPDATE users u JOIN follows f ON f.following_id = u.user_id"
+                        + " SET u.follower_count = GREATEST(COALESCE(u.follower_count, 0) - 1, 0)"
+                        + " WHERE f.follow_id IN ({ids})", null),
+        FOLLOWERS("follows", "follow_id", "following_id = ?", false,                                            // 나를 팔로우한 관계
+                "UPDATE users u JOIN follows f ON f.follower_id = u.user_id"
+                        + " SET u.following_count = GREATEST(COALESCE(u.following_count, 0) - 1, 0)"
+                        + " WHERE f.follow_id IN ({ids})", null),
+        TAG_MAPS("tag_maps", "tag_map_id", POSTS_OF_BLOG, true, null, null),                                     // 내 게시글의 태그
+        POSTS("posts", "post_id", "blog_id = ?", true, null, null);                                             // 내 게시글
+
+        private final String table;
+        private final String idColumn;
+        private final String condition;
+        private final boolean byBlog;
+        private final String beforeDelete;
+        private final String touchedPosts;
+    }
+
+    /**
+     * chunk 하나의 정리 결과
+     * @param rows 조회한 대상 행 수 (limit 보다 작으면 해당 단계 완료)
+     * @param touchedPostIds like_count 가 바뀐 게시글 id
+     */
+    public record PurgedChunk(int rows, List<Long> touchedPostIds) {
+    }
+
+    /**
+     * 정리 대상 계정
+     * @param blogId 블로그가 이미 삭제되었으면 null
+     */
+    public record PendingAccount(Long userId, Long blogId) {
+    }
+
+    /**
+     * 탈퇴 처리 시각 순으로 정리 대상 계정 조회
+     */
+    public List<PendingAccount> findPendingAccounts(int limit) {
+        return jdbcTemplate.query(
+                "SELECT u.user_id, b.blog_id FROM users u"
+                        + " LEFT JOIN blogs b ON b.user_id = u.user_id"
+                        + " WHERE u.deleted_at IS NOT NULL"
+                        + " ORDER BY u.deleted_at, u.user_id LIMIT ?",
+                (rs, rowNum) -> new PendingAccount(rs.getLong(1), rs.getObject(2, Long.class)),
+                limit
+        );
+    }
+
+    public long countPendingAccounts() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE deleted_at IS NOT NULL", Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 단계 조건에 맞는 행을 id 순으로 최대 limit 개 삭제
+     * - 다른 사용자/게시글의 카운터(like_count, follower_count 등)는 삭제 전에 감소
+     */
+    @Transactional
+    public PurgedChunk purgeChunk(Step step, long ownerId, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT " + step.getIdColumn() + " FROM " + step.getTable()
+                        + " WHERE " + step.getCondition()
+                        + " ORDER BY " + step.getIdColumn() + " LIMIT ?",
+                Long.class,
+                ownerId, limit
+        );
+        if (ids.isEmpty()) return new PurgedChunk(0, List.of());
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+
+        List<Long> touchedPostIds = step.getTouchedPosts() == null ? List.of()
+                : jdbcTemplate.queryForList(step.getTouchedPosts().replace("{ids}", placeholders), Long.class, args);
+        if (step.getBeforeDelete() != null) {
+            jdbcTemplate.update(step.getBeforeDelete().replace("{ids}", placeholders), args);
+        }
+        jdbcTemplate.update(
+                "DELETE FROM " + step.getTable() + " WHERE " + step.getIdColumn() + " IN (" + placeholders + ")",
+                args
+        );
+        return new PurgedChunk(ids.size(), touchedPostIds);
+    }
+
+    /**
+     * 연관 데이터 정리 후 블로그와 계정 삭제
+     */
+    @Transactional
+    public void deleteAccount(long userId) {
+        jdbcTemplate.update("DELETE FROM blogs WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ? AND deleted_at IS NOT NULL", userId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.likelion.vlog.repository.jdbc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비정규화 카운터 컬럼 (users.follower_count / following_count, blogs.post_count) JDBC 처리
+ * - 증감은 UPDATE 한 문장으로 원자적으로 처리 (0 미만으로 내려가지 않음)
+ * - 보정은 원본 테이블(follows, posts) 건수로 id 범위 단위 재계산
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보정 대상 (테이블, PK, 재계산 SET 절)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Target {
+        USER_FOLLOWS("users", "user_id",
+                "follower_count = (SELECT COUNT(*) FROM follows f WHERE f.following_id = t.user_id),"
+                        + " following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = t.user_id)"),
+        BLOG_POSTS("blogs", "blog_id",
+                "post_count = (SELECT COUNT(*) FROM posts p WHERE p.blog_id = t.blog_id)");
+
+        private final String table;
+        private final String idColumn;
+        private final String assignments;
+    }
+
+    /**
+     * 팔로우/언팔로우 시 두 사용자의 카운터를 한 문장으로 증감
+     * - 팔로우한 사용자: following_count, 팔로우 대상: follower_count
+     * - PK 순으로 잠그므로 맞팔로우가 동시에 일어나도 교착 없음
+     */
+    public void addFollowCounts(Long followerId, Long followingId, int delta) {
+        jdbcTemplate.update(
+                "UPDATE users SET"
+                        + " following_count = GREATEST(COALESCE(following_count, 0) + CASE WHEN user_id = ? THEN ? ELSE 0 END, 0),"
+                        + " follower_count = GREATEST(COALESCE(follower_count, 0) + CASE WHEN user_id = ? THEN ? ELSE 0 END, 0)"
+                        + " WHERE user_id IN (?, ?)",
+                followerId, delta, followingId, delta, followerId, followingId
+        );
+    }
+
+    public void addPostCount(Long blogId, int delta) {
+        jdbcTemplate.update(
+                "UPDATE blogs SET post_count = GREATEST(COALESCE(post_count, 0) + ?, 0) WHERE blog_id = ?",
+                delta, blogId
+        );
+    }
+
+    public long findMaxId(Target target) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + target.getIdColumn() + ") FROM " + target.getTable(),
+                Long.class
+        );
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * id 범위 (fromExclusive, toInclusive] 의 카운터를 원본 테이블 건수로 재계산
+     * - 범위 하나가 트랜잭션 하나
+     * @return 재계산한 행 수
+     */
+    @Transactional
+    public int repairRange(Target target, long fromExclusive, long toInclusive) {
+        return jdbcTemplate.update(
+                "UPDATE " + target.getTable() + " t SET " + target.getAssignments()
+                        + " WHERE t." + target.getIdColumn() + " > ? AND t." + target.getIdColumn() + " <= ?",
+                fromExclusive, toInclusive
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.likelion.vlog.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요 단일 문장 처리 (unique_user_post 제약 기반 insert-if-absent)
+ * - 사용자/게시글 조회, 중복 확인을 각각의 쿼리로 하지 않음
+ * - 동시에 같은 좋아요 요청이 와도 행은 하나만 생기고 영향 받은 행 수로 판단
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가 (이미 있거나 게시글/사용자가 없으면 무시)
+     * @return 실제로 추가된 행 수 (0 또는 1)
+     */
+    public int insertIfAbsent(String email, Long postId) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO likes (user_id, post_id, created_at, updated_at)"
+                        + " SELECT u.user_id, p.post_id, NOW(), NOW()"
+                        + " FROM users u JOIN posts p ON p.post_id = ?"
+                        + " WHERE u.email = ? AND u.deleted_at IS NULL",
+                postId, email
+        );
+    }
+
+    /**
+     * 좋아요 삭제 (없으면 무시)
+     * @return 실제로 삭제된 행 수 (0 또는 1)
+     */
+    public int deleteIfPresent(String email, Long postId) {
+        return jdbcTemplate.update(
+                "DELETE l FROM likes l JOIN users u ON u.user_id = l.user_id"
+                        + " WHERE u.email = ? AND l.post_id = ?",
+                email, postId
+        );
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요했는지
+     */
+    public boolean existsLike(String email, Long postId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM likes l JOIN users u ON u.user_id = l.user_id"
+                        + " WHERE u.email = ? AND l.post_id = ? LIMIT 1",
+                Integer.class,
+                email, postId
+        ).isEmpty();
+    }
+
+    /**
+     * 좋아요 수 변경 (0 미만으로 내려가지 않음)
+     */
+    public void addLikeCount(Long postId, int delta) {
+        jdbcTemplate.update(
+                "UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE post_id = ?",
+                delta, postId
+        );
+    }
+
+    /**
+     * 현재 좋아요 수 (게시글이 없으면 empty)
+     */
+    public Optional<Integer> findLikeCount(Long postId) {
+        List<Integer> counts = jdbcTemplate.query(
+                "SELECT COALESCE(like_count, 0) FROM posts WHERE post_id = ?",
+                (rs, rowNum) -> rs.getInt(1),
+                postId
+        );
+        return counts.stream().findFirst();
+    }
+
+    /**
+     * 게시글 중 사용자가 좋아요한 id (IN 쿼리 한 번)
+     */
+    public Set<Long> findLikedPostIds(String email, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Set.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        List<Object> args = new ArrayList<>(postIds.size() + 1);
+        args.add(email);
+        args.addAll(postIds);
+
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT l.post_id FROM likes l JOIN users u ON u.user_id = l.user_id"
+                        + " WHERE u.email = ? AND l.post_id IN (" + placeholders + ")",
+                Long.class,
+                args.toArray()
+        ));
+    }
+}
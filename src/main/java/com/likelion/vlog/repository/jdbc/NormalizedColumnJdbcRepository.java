@@ -0,0 +1,69 @@
+package com.likelion.vlog.repository.jdbc;
+
+import com.likelion.vlog.util.TextNormalizer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 검색용 정규화 컬럼(*_normalized) 백필 JDBC 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class NormalizedColumnJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정규화 대상 컬럼 (테이블, PK, 원본 컬럼, 정규화 컬럼)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Target {
+        POST_TITLE("posts", "post_id", "title", "title_normalized"),
+        BLOG_TITLE("blogs", "blog_id", "title", "title_normalized"),
+        USER_NICKNAME("users", "user_id", "nickname", "nickname_normalized");
+
+        private final String table;
+        private final String idColumn;
+        private final String sourceColumn;
+        private final String normalizedColumn;
+    }
+
+    public long findMaxId(Target target) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + target.getIdColumn() + ") FROM " + target.getTable(),
+                Long.class
+        );
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * id 범위 (fromExclusive, toInclusive] 에서 정규화 컬럼이 비어 있는 행만 채움
+     * - 범위 하나가 트랜잭션 하나 (짧은 트랜잭션으로 잠금 최소화)
+     * @return 갱신한 행 수
+     */
+    @Transactional
+    public int fillRange(Target target, long fromExclusive, long toInclusive) {
+        List<Object[]> args = jdbcTemplate.query(
+                "SELECT " + target.getIdColumn() + ", " + target.getSourceColumn()
+                        + " FROM " + target.getTable()
+                        + " WHERE " + target.getIdColumn() + " > ? AND " + target.getIdColumn() + " <= ?"
+                        + " AND " + target.getNormalizedColumn() + " IS NULL",
+                (rs, rowNum) -> new Object[]{TextNormalizer.normalize(rs.getString(2)), rs.getLong(1)},
+                fromExclusive, toInclusive
+        );
+        if (args.isEmpty()) return 0;
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + target.getTable() + " SET " + target.getNormalizedColumn() + " = ?"
+                        + " WHERE " + target.getIdColumn() + " = ?",
+                args
+        );
+        return args.size();
+    }
+}
@@ -0,0 +1,96 @@
+package com.likelion.vlog.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts 테이블 JDBC 일괄 처리 (JPA 로 건건이 처리하기 비싼 쓰기)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증가분 일괄 반영 (JDBC batch 한 번)
+     * - post_id 순으로 정렬해 다른 트랜잭션과 행 잠금 순서를 맞춤
+     */
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE posts SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?",
+                args
+        );
+    }
+
+    /**
+     * 좋아요 수 증감분 일괄 반영 (0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE post_id = ?",
+                args
+        );
+    }
+
+    /**
+     * 좋아요 수 보정값 일괄 반영
+     */
+    @Transactional
+    public void updateLikeCounts(Map<Long, Long> likeCounts) {
+        List<Object[]> args = likeCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate("UPDATE posts SET like_count = ? WHERE post_id = ?", args);
+    }
+
+    /**
+     * 저장된 좋아요 수 (post_id -> like_count)
+     */
+    public Map<Long, Long> findLikeCounts(List<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        Map<Long, Long> likeCounts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT post_id, COALESCE(like_count, 0) FROM posts WHERE post_id IN (" + placeholders + ")",
+                rs -> {
+                    likeCounts.put(rs.getLong(1), rs.getLong(2));
+                },
+                postIds.toArray()
+        );
+        return likeCounts;
+    }
+
+    /**
+     * id 오름차순으로 afterId 다음 게시글 id 최대 limit 개 (전체 순회용)
+     */
+    public List<Long> findIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT post_id FROM posts WHERE post_id > ? ORDER BY post_id LIMIT ?",
+                Long.class,
+                afterId, limit
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.likelion.vlog.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * tags / tag_maps 테이블 JDBC 일괄 처리
+ * - 태그/태그 매핑은 IDENTITY 라 JPA 로는 insert 를 묶을 수 없으므로 직접 묶어서 실행
+ * - created_at / updated_at 은 JPA Auditing 을 거치지 않으므로 직접 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 없는 태그만 한 번의 multi-row INSERT 로 생성
+     * - 동시에 같은 태그를 만드는 요청이 있어도 UNIQUE(title) 충돌은 무시 (INSERT IGNORE)
+     */
+    public void insertIgnore(Collection<String> titles) {
+        if (titles.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String values = String.join(", ", Collections.nCopies(titles.size(), "(?, ?, ?)"));
+        List<Object> args = new ArrayList<>();
+        for (String title : titles) {
+            args.add(title);
+            args.add(now);
+            args.add(now);
+        }
+
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO tags (title, created_at, updated_at) VALUES " + values,
+                args.toArray()
+        );
+    }
+
+    /**
+     * 게시글-태그 매핑을 JDBC batch 한 번으로 생성 (rewriteBatchedStatements 로 multi-row INSERT)
+     */
+    public void insertTagMaps(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = tagIds.stream()
+                .map(tagId -> new Object[]{postId, tagId, now, now})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tag_maps (post_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                args
+        );
+    }
+}
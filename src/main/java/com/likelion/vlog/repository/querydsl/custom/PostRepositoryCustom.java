@@ -1,9 +1,22 @@
 package com.likelion.vlog.repository.querydsl.custom;
 
 import com.likelion.vlog.dto.posts.PostGetRequest;
-import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface PostRepositoryCustom {
-    Page<Post> search(PostGetRequest request);
+    // 목록 조회는 엔티티 대신 목록 컬럼 + 작성자만 프로젝션 (본문 MEDIUMTEXT 미조회)
+    Page<PostListGetResponse> search(PostGetRequest request);
+
+    // offset 페이징이지만 COUNT 생략 - size+1 건으로 다음 페이지 여부만 판단
+    Slice<PostListGetResponse> searchSlice(PostGetRequest request);
+
+    // 커서(keyset) 페이징 - count 쿼리 없이 size+1 건으로 다음 페이지 여부 판단
+    Slice<PostListGetResponse> searchByCursor(PostGetRequest request);
+
+    // id 목록을 목록 프로젝션으로 조회 (입력 순서 유지, 없거나 탈퇴 처리된 블로그의 글은 제외)
+    List<PostListGetResponse> findListByIds(List<Long> ids);
 }
@@ -1,53 +1,351 @@
 package com.likelion.vlog.repository.querydsl.custom;
 
+import com.likelion.vlog.dto.posts.AuthorResponse;
+import com.likelion.vlog.dto.posts.PostCursor;
 import com.likelion.vlog.dto.posts.PostGetRequest;
-import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.QBlog;
 import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.index.DeletedBlogIndex;
+import com.likelion.vlog.index.PostSearchIndex;
+import com.likelion.vlog.index.TagBitmapIndex;
+import com.likelion.vlog.repository.querydsl.support.ParallelQueryExecutor;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+@Slf4j
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
+    // 비트맵 결과를 IN 목록으로 넘길 최대 건수 (넘으면 SQL 조건 사용, 건수만 비트맵에서)
+    private static final int MAX_IN_SIZE = 1000;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final PostSearchIndex postSearchIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final DeletedBlogIndex deletedBlogIndex;
+
+    // false 면 목록을 한 번의 쿼리(조인 + 정렬 + offset)로 조회 (2단계 조회와 비교용)
+    @Value("${vlog.post-list.two-phase:true}")
+    private boolean twoPhase;
 
     @Override
-    public Page<Post> search(PostGetRequest request) {
+    public Page<PostListGetResponse> search(PostGetRequest request) {
         QPost post = QPost.post;
 
         int page = request.getPage();
         int size = request.getSize();
 
-        //검색
-        var query = jpaQueryFactory
-                .selectFrom(post)
-                .distinct()
-                .where(post.search(request));
+        //검색 조건 (색인으로 해석 가능한 부분은 미리 해석)
+        SearchPlan plan = plan(request);
+        if (plan.isEmpty()) {
+            return Page.empty(PageRequest.of(page, size));
+        }
 
         //정렬
         OrderSpecifier<?> order = post.sort(request);
-        query.orderBy(order, post.id.desc());
+
+        // 페이징을 위해 총 조회건수 (태그 비트맵으로 계산된 경우 COUNT 생략)
+        // COUNT 는 별도 커넥션에서 목록 조회와 동시에 실행
+        Long total = plan.total();
+        Optional<CompletableFuture<Long>> pendingCount = total == null
+                ? parallelQueryExecutor.trySubmit(() -> count(plan.where()))
+                : Optional.empty();
 
         //결과
-        List<Post> content = query
-                .offset((long) page * size)
-                .limit(size)
-                .fetch();
+        List<PostListGetResponse> content;
+        try {
+            content = fetchList(plan.where(), order, (long) page * size, size);
+        } catch (RuntimeException e) {
+            pendingCount.ifPresent(future -> future.cancel(false));
+            throw e;
+        }
+
+        if (total == null) {
+            total = pendingCount.map(future -> awaitCount(future, plan.where()))
+                    .orElseGet(() -> count(plan.where()));
+        }
+
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    @Override
+    public Slice<PostListGetResponse> searchSlice(PostGetRequest request) {
+        QPost post = QPost.post;
+
+        int page = request.getPage();
+        int size = request.getSize();
+
+        SearchPlan plan = plan(request);
+        if (plan.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(page, size), false);
+        }
+
+        OrderSpecifier<?> order = post.sort(request);
+
+        //결과: 한 건 더 조회해서 다음 페이지 여부 판단 (COUNT 없음)
+        List<PostListGetResponse> content = fetchList(plan.where(), order, (long) page * size, size + 1L);
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        return new SliceImpl<>(content, PageRequest.of(page, size), hasNext);
+    }
+
+    @Override
+    public Slice<PostListGetResponse> searchByCursor(PostGetRequest request) {
+        QPost post = QPost.post;
+
+        int size = request.getSize();
+
+        SearchPlan plan = plan(request);
+        if (plan.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+
+        //검색 + 커서 이후
+        BooleanBuilder where = new BooleanBuilder(plan.where());
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            where.and(post.after(PostCursor.decode(request)));
+        }
+
+        //정렬 (offset 방식과 동일한 순서)
+        OrderSpecifier<?> order = post.sort(request);
+
+        //결과: 한 건 더 조회해서 다음 페이지 여부 판단
+        List<PostListGetResponse> content = fetchList(where, order, 0L, size + 1L);
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public List<PostListGetResponse> findListByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostListGetResponse> byId = hydrate(visible(QPost.post.id.in(ids))).stream()
+                .collect(Collectors.toMap(PostListGetResponse::getPostId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private long count(Predicate where) {
+        QPost post = QPost.post;
 
-        // 페이징을 위해 총 조회건수
         Long total = jpaQueryFactory
                 .select(post.id.countDistinct())
                 .from(post)
-                .where(post.search(request))
+                .where(where)
                 .fetchOne();
+        return total == null ? 0L : total;
+    }
 
-        total = total == null ? 0L : total;
+    // 병렬 COUNT 가 실패하면 (커넥션 획득 실패 등) 현재 커넥션에서 다시 실행
+    private long awaitCount(CompletableFuture<Long> future, Predicate where) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            log.warn("병렬 COUNT 실패, 동기 실행으로 대체: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            return count(where);
+        }
+    }
 
-        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    /**
+     * 목록 조회 (2단계)
+     * - 1단계: 정렬된 post_id 페이지만 조회 (정렬 컬럼 보조 인덱스로 커버링, 넓은 행 정렬/중복제거 없음)
+     * - 2단계: 해당 id 들만 IN 조회로 채운 뒤 1단계 순서로 재정렬
+     * - 검색 조건은 모두 서브쿼리라 행이 늘어나지 않으므로 DISTINCT 불필요
+     */
+    private List<PostListGetResponse> fetchList(Predicate where, OrderSpecifier<?> order, long offset, long limit) {
+        QPost post = QPost.post;
+
+        if (!twoPhase) {
+            return toResponses(listQuery(where)
+                    .orderBy(order, post.id.desc())
+                    .offset(offset)
+                    .limit(limit)
+                    .fetch());
+        }
+
+        List<Long> ids = jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(where)
+                .orderBy(order, post.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostListGetResponse> byId = hydrate(QPost.post.id.in(ids)).stream()
+                .collect(Collectors.toMap(PostListGetResponse::getPostId, Function.identity()));
+
+        // 두 단계 사이에 삭제된 게시글은 제외
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 목록 프로젝션 조회
+     * - 목록 컬럼 + 작성자(id, 닉네임)만 post -> blog -> user 조인 한 번으로 조회
+     * - 본문(content)은 읽지 않고 요약(excerpt) 사용
+     */
+    private List<PostListGetResponse> hydrate(Predicate where) {
+        return toResponses(listQuery(where).fetch());
+    }
+
+    private JPAQuery<Tuple> listQuery(Predicate where) {
+        QPost post = QPost.post;
+        QBlog blog = QBlog.blog;
+        QUser user = QUser.user;
+
+        return jpaQueryFactory
+                .select(post.id, post.title, post.excerpt, post.viewCount, post.likeCount,
+                        post.createdAt, post.updatedAt, user.id, user.nickname)
+                .from(post)
+                .join(post.blog, blog)
+                .join(blog.user, user)
+                .where(where);
+    }
+
+    private List<PostListGetResponse> toResponses(List<Tuple> rows) {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+
+        return rows.stream()
+                .map(row -> PostListGetResponse.builder()
+                        .postId(row.get(post.id))
+                        .title(row.get(post.title))
+                        .excerpt(row.get(post.excerpt))
+                        .viewCount(row.get(post.viewCount))
+                        .likeCount(row.get(post.likeCount))
+                        .author(AuthorResponse.builder()
+                                .userId(row.get(user.id))
+                                .nickname(row.get(user.nickname))
+                                .build())
+                        .createdAt(row.get(post.createdAt))
+                        .updatedAt(row.get(post.updatedAt))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 검색 조건 해석
+     * - 키워드: PostSearchIndex 로 id 목록 변환
+     * - 태그: TagBitmapIndex 로 게시글 비트맵 계산 후 블로그/키워드 조건과 교집합
+     *   -> 총 건수는 비트맵 cardinality (SQL COUNT 없음)
+     *   -> 건수가 적으면 조건 전체를 post.id IN (...) 하나로 대체
+     */
+    private SearchPlan plan(PostGetRequest request) {
+        QPost post = QPost.post;
+
+        //키워드 -> id 목록 (색인에 매칭이 없으면 DB 조회 생략)
+        List<Long> keywordIds = findKeywordIds(request);
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return SearchPlan.EMPTY;
+        }
+
+        //키워드를 색인으로 풀지 못했으면 비트맵 건수가 정확하지 않으므로 SQL 로 처리
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        Optional<RoaringBitmap> tagged = hasKeyword && keywordIds == null
+                ? Optional.empty()
+                : tagBitmapIndex.match(request.getTagMode(), request.getTag());
+        if (tagged.isEmpty()) {
+            return new SearchPlan(visible(post.search(request, keywordIds)), null);
+        }
+
+        RoaringBitmap candidates = tagged.get();
+        Long blogId = request.getBlogId();
+        if (blogId != null && blogId > 0) {
+            candidates.and(tagBitmapIndex.postsOfBlogs(List.of(blogId)));
+        }
+        if (keywordIds != null) {
+            candidates.and(request.getSearch() == SearchFiled.TITLE
+                    ? RoaringBitmap.bitmapOf(keywordIds.stream().mapToInt(Math::toIntExact).toArray())
+                    : tagBitmapIndex.postsOfBlogs(keywordIds));
+        }
+
+        long total = candidates.getLongCardinality();
+        if (total == 0) {
+            return SearchPlan.EMPTY;
+        }
+        if (total <= MAX_IN_SIZE) {
+            List<Long> ids = candidates.stream().mapToObj(Long::valueOf).toList();
+            return new SearchPlan(post.id.in(ids), total);
+        }
+        return new SearchPlan(visible(post.search(request, keywordIds)), total);
+    }
+
+    /**
+     * 탈퇴 처리 후 정리되지 않은 블로그의 글 제외
+     * - 색인(비트맵, 키워드)에서는 탈퇴 시 이미 제거되므로 SQL 조건에만 필요
+     */
+    private Predicate visible(Predicate where) {
+        Set<Long> hiddenBlogIds = deletedBlogIndex.getBlogIds();
+        if (hiddenBlogIds.isEmpty()) {
+            return where;
+        }
+        return new BooleanBuilder(where).and(QPost.post.blog.id.notIn(hiddenBlogIds));
+    }
+
+    /**
+     * 인메모리 색인으로 키워드 매칭 id 조회
+     * - null: 키워드 없음 또는 색인 사용 불가 -> SQL 로 키워드 검색
+     */
+    private List<Long> findKeywordIds(PostGetRequest request) {
+        return postSearchIndex.find(request.getSearch(), request.getKeyword(), request.isPrefix()).orElse(null);
+    }
+
+    /**
+     * @param where 검색 조건
+     * @param total 색인으로 계산된 총 건수 (null 이면 SQL COUNT 필요)
+     */
+    private record SearchPlan(Predicate where, Long total) {
+
+        static final SearchPlan EMPTY = new SearchPlan(null, 0L);
+
+        boolean isEmpty() {
+            return total != null && total == 0;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.likelion.vlog.repository.querydsl.expresion;
 
+import com.likelion.vlog.dto.posts.PostCursor;
 import com.likelion.vlog.dto.posts.PostGetRequest;
 import com.likelion.vlog.entity.*;
 import com.likelion.vlog.enums.SearchFiled;
@@ -7,16 +8,17 @@ import com.likelion.vlog.enums.SearchFiled;
 
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.util.TextNormalizer;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.annotations.QueryDelegate;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -35,17 +37,20 @@ public class PostExpression {
     }
 
 
-     // MySQL8: 공백무시 + 대소문자 무시
-    private static BooleanExpression whitespaceIgnoreCase(StringExpression field, String keyword) {
+     // 공백무시 + 대소문자 무시: 저장 시 정규화된 컬럼(*_normalized)과 정규화된 키워드 비교
+     // prefix 검색은 LIKE 'x%' 이므로 인덱스 범위 스캔 가능
+    private static BooleanExpression normalizedMatch(StringPath normalizedField, String keyword, boolean prefix) {
         if (keyword == null || keyword.isBlank()) return null;
-        // JAVA 공백 제거
-        String normalized = keyword.trim().replaceAll("\\s+", "");
-        // 문자열 반환 강제(CONCAT) + 공백클래스([[:space:]])
-        StringExpression normalizedField = Expressions.stringTemplate(
-                "CONCAT('', REGEXP_REPLACE({0}, '[[:space:]]+', ''))",
-                field
-        );
-        return normalizedField.containsIgnoreCase(normalized);
+        String normalized = TextNormalizer.normalize(keyword);
+        return prefix ? normalizedField.startsWith(normalized) : normalizedField.contains(normalized);
+    }
+
+    //색인 결과 id 로 키워드 필터 (TITLE: post_id, BLOG/NICKNAME: blog_id)
+    private static BooleanExpression keywordIn(QPost post, SearchFiled search, List<Long> ids) {
+        return switch (search) {
+            case BLOG, NICKNAME -> post.blog.id.in(ids);
+            case TITLE -> post.id.in(ids);
+        };
     }
 
      //tags 목록에 있는 "모든 태그"를 포함하는 게시물만 통과 (더 많아도 OK)
@@ -89,9 +94,16 @@ public class PostExpression {
 
     @QueryDelegate(Post.class)
     public static Predicate search(QPost post, PostGetRequest request) {
+        return search(post, request, null);
+    }
+
+    //keywordIds: 인메모리 색인(PostSearchIndex)으로 미리 찾은 id 목록, null 이면 SQL 로 키워드 검색
+    @QueryDelegate(Post.class)
+    public static Predicate search(QPost post, PostGetRequest request, List<Long> keywordIds) {
 
         Long blogId = request.getBlogId();
         String keyword = request.getKeyword();
+        boolean prefix = request.isPrefix();
         List<String> tags = request.getTag();
         SearchFiled search = request.getSearch();
         TagMode tagMode = request.getTagMode();
@@ -104,11 +116,13 @@ public class PostExpression {
         }
 
         //키워드필터
-        if (keyword != null && !keyword.isBlank()) {
+        if (keyword != null && !keyword.isBlank() && keywordIds != null) {
+            builder.and(keywordIn(post, search, keywordIds));
+        } else if (keyword != null && !keyword.isBlank()) {
             switch (search) {
-                case BLOG -> builder.and(whitespaceIgnoreCase(post.blog.title, keyword));
-                case NICKNAME -> builder.and(whitespaceIgnoreCase(post.blog.user.nickname, keyword));
-                case TITLE -> builder.and(whitespaceIgnoreCase(post.title, keyword));
+                case BLOG -> builder.and(normalizedMatch(post.blog.titleNormalized, keyword, prefix));
+                case NICKNAME -> builder.and(normalizedMatch(post.blog.user.nicknameNormalized, keyword, prefix));
+                case TITLE -> builder.and(normalizedMatch(post.titleNormalized, keyword, prefix));
             }
         }
 
@@ -137,4 +151,35 @@ public class PostExpression {
             case LIKE -> asc ? post.likeCount.asc() : post.likeCount.desc();
         };
     }
+
+    //커서(마지막 행) 이후의 게시물만 통과 - sort() + post.id.desc() 정렬 순서 기준
+    @QueryDelegate(Post.class)
+    public static Predicate after(QPost post, PostCursor cursor) {
+        boolean asc = cursor.isAsc();
+        BooleanExpression tieBreak = post.id.lt(cursor.getId());
+
+        return switch (cursor.getSort()) {
+            case VIEW -> {
+                int value = cursor.intValue();
+                yield keyset(asc ? post.viewCount.gt(value) : post.viewCount.lt(value), post.viewCount.eq(value), tieBreak);
+            }
+            case LIKE -> {
+                int value = cursor.intValue();
+                yield keyset(asc ? post.likeCount.gt(value) : post.likeCount.lt(value), post.likeCount.eq(value), tieBreak);
+            }
+            case CREATED_AT -> {
+                LocalDateTime value = cursor.dateTimeValue();
+                yield keyset(asc ? post.createdAt.gt(value) : post.createdAt.lt(value), post.createdAt.eq(value), tieBreak);
+            }
+            case UPDATED_AT -> {
+                LocalDateTime value = cursor.dateTimeValue();
+                yield keyset(asc ? post.updatedAt.gt(value) : post.updatedAt.lt(value), post.updatedAt.eq(value), tieBreak);
+            }
+        };
+    }
+
+    // (정렬값이 커서 너머) OR (정렬값 동일 AND id 가 커서보다 작음)
+    private static BooleanExpression keyset(BooleanExpression beyond, BooleanExpression same, BooleanExpression tieBreak) {
+        return beyond.or(same.and(tieBreak));
+    }
 }
\ No newline at end of file
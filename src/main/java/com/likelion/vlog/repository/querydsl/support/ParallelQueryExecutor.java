@@ -0,0 +1,66 @@
+package com.likelion.vlog.repository.querydsl.support;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 보조 쿼리(COUNT 등) 병렬 실행기
+ * - 가상 스레드에서 별도 읽기 전용 트랜잭션(= 별도 커넥션)으로 실행
+ * - 동시 실행 수를 permits 로 제한 (커넥션 풀 고갈 방지), 초과 시 호출 측에서 직접 실행
+ */
+@Component
+public class ParallelQueryExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final boolean enabled;
+
+    public ParallelQueryExecutor(PlatformTransactionManager transactionManager,
+                                 @Value("${vlog.post-search.parallel-count.enabled:true}") boolean enabled,
+                                 @Value("${vlog.post-search.parallel-count.permits:4}") int permits) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.permits = new Semaphore(permits);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 쿼리를 비동기로 실행
+     * - 비활성화 상태이거나 동시 실행 한도를 넘으면 empty (호출 측에서 동기 실행)
+     */
+    public <T> Optional<CompletableFuture<T>> trySubmit(Supplier<T> query) {
+        if (!enabled || !permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readOnlyTransaction.execute(status -> query.get());
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        } catch (RuntimeException e) {
+            permits.release();
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+}
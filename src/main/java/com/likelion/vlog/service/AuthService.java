@@ -4,8 +4,10 @@ import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.DuplicateException;
+import com.likelion.vlog.index.PostSearchIndex;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,7 +16,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
@@ -23,10 +27,17 @@ public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PostSearchIndex postSearchIndex;
+
+    // ROLE_ADMIN 을 함께 부여할 이메일 (actuator 메트릭 조회용, 쉼표 구분)
+    @Value("${vlog.admin.emails:}")
+    private Set<String> adminEmails;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // 탈퇴 처리된 계정은 정리 전이라도 로그인 불가
         User user = userRepository.findByEmail(username)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new UsernameNotFoundException("없는 이메일"));
         return toUserDetail(user);
     }
@@ -38,6 +49,7 @@ public class AuthService implements UserDetailsService {
         }
         User user = User.of(dto, passwordEncoder);
         userRepository.save(user);
+        postSearchIndex.putBlog(user.getBlog().getId(), user.getBlog().getTitle(), user.getNickname());
         return UserGetResponse.of(user);
     }
 
@@ -48,11 +60,21 @@ public class AuthService implements UserDetailsService {
     }
 
     private UserDetails toUserDetail(User user){
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        if (isAdmin(user.getEmail())) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+
         return org.springframework.security.core.userdetails.User
                 .builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
-                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .authorities(authorities)
                 .build();
     }
+
+    private boolean isAdmin(String email) {
+        return adminEmails.stream().anyMatch(admin -> admin.trim().equalsIgnoreCase(email));
+    }
 }
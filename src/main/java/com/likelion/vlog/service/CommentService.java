@@ -1,6 +1,7 @@
 package com.likelion.vlog.service;
 
 import com.likelion.vlog.dto.comments.*;
+import com.likelion.vlog.dto.posts.PageResponse;
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
@@ -10,10 +11,16 @@ import com.likelion.vlog.repository.CommentRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 댓글/대댓글 비즈니스 로직
@@ -27,17 +34,55 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // size 없이 요청한 댓글 / 답글 페이지 크기 (게시글 상세의 댓글 첫 페이지 포함)
+    @Value("${vlog.comment.page-size:20}")
+    private int defaultPageSize;
+
+    // 댓글 목록에서 댓글마다 함께 내려줄 답글 수
+    @Value("${vlog.comment.reply-preview-size:3}")
+    private int replyPreviewSize;
+
+    /**
+     * 게시글의 댓글 목록 커서 조회
+     * - 대댓글은 댓글별 답글 수 + 앞 reply-preview-size 개만 포함 (나머지는 getReplies)
+     * - 페이지 크기와 무관하게 댓글 / 답글 수 / 앞 답글 id / 앞 답글 쿼리 최대 4회
+     */
+    public PageResponse<CommentWithRepliesGetResponse> getComments(Long postId, String cursor, Integer size) {
+        findPostById(postId);
+        return getCommentPage(postId, cursor, size);
+    }
+
+    /**
+     * 게시글 댓글 첫 페이지 (게시글 상세 조회용, 게시글 확인은 호출하는 쪽에서)
+     */
+    public PageResponse<CommentWithRepliesGetResponse> getFirstComments(Long postId) {
+        return getCommentPage(postId, null, null);
+    }
+
     /**
-     * 게시글의 댓글 목록 조회 (대댓글 포함)
+     * 댓글의 답글 목록 커서 조회
      */
-    public List<CommentWithRepliesGetResponse> getComments(Long postId) {
+    public PageResponse<ReplyGetResponse> getReplies(Long postId, Long commentId, String cursor, Integer size) {
         Post post = findPostById(postId);
+        Comment parentComment = findCommentById(commentId);
 
-        List<Comment> comments = commentRepository.findAllByPostWithChildren(post);
+        validateCommentBelongsToPost(parentComment, post);
+        validateCommentIsNotReply(parentComment);
 
-        return comments.stream()
-                .map(CommentWithRepliesGetResponse::from)
+        int pageSize = pageSizeOf(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+        List<Comment> replies = commentRepository.findWithUserByParentIdAfter(
+                commentId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = replies.size() > pageSize;
+        List<Comment> page = hasNext ? replies.subList(0, pageSize) : replies;
+
+        List<ReplyGetResponse> content = page.stream()
+                .map(ReplyGetResponse::from)
                 .toList();
+        return toPageResponse(content, page, pageSize, hasNext, cursor);
     }
 
     /**
@@ -141,6 +186,66 @@ public class CommentService {
 
     // === Helper Methods ===
 
+    private PageResponse<CommentWithRepliesGetResponse> getCommentPage(Long postId, String cursor, Integer size) {
+        int pageSize = pageSizeOf(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+        List<Comment> comments = commentRepository.findWithUserByPostIdAfter(
+                postId, after.getCreatedAt(), after.getId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> page = hasNext ? comments.subList(0, pageSize) : comments;
+
+        Map<Long, Long> replyCounts = countReplies(page);
+        Map<Long, List<Comment>> firstReplies = findFirstReplies(replyCounts.keySet());
+
+        List<CommentWithRepliesGetResponse> content = page.stream()
+                .map(comment -> CommentWithRepliesGetResponse.of(
+                        comment,
+                        firstReplies.getOrDefault(comment.getId(), List.of()),
+                        replyCounts.getOrDefault(comment.getId(), 0L)))
+                .toList();
+        return toPageResponse(content, page, pageSize, hasNext, cursor);
+    }
+
+    // 댓글 id -> 답글 수 (답글이 있는 댓글만)
+    private Map<Long, Long> countReplies(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        return commentRepository.countByParentIds(commentIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    // 댓글 id -> 앞 reply-preview-size 개 답글 (작성 순)
+    private Map<Long, List<Comment>> findFirstReplies(Collection<Long> parentIds) {
+        if (parentIds.isEmpty() || replyPreviewSize <= 0) {
+            return Map.of();
+        }
+
+        List<Long> replyIds = commentRepository.findFirstReplyIds(parentIds, replyPreviewSize);
+        if (replyIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findWithUserByIdIn(replyIds).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
+    }
+
+    private int pageSizeOf(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static <T> PageResponse<T> toPageResponse(List<T> content, List<Comment> page, int pageSize,
+                                                      boolean hasNext, String cursor) {
+        String nextCursor = hasNext ? CommentCursor.of(page.get(page.size() - 1)).encode() : null;
+        boolean first = cursor == null || cursor.isBlank();
+        return PageResponse.of(new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext), content, first, nextCursor);
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
@@ -0,0 +1,134 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.FeedInboxCache;
+import com.likelion.vlog.cache.LikedPostCache;
+import com.likelion.vlog.dto.posts.FeedCursor;
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.index.FollowGraph;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.repository.jdbc.LikeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 홈 피드 (팔로우한 사용자의 게시글, 최신순)
+ * - posts JOIN follows 정렬 쿼리 대신 수신함(FeedInboxCache) + 인기 작성자 게시글을 조회 시 병합
+ * - (created_at, post_id) 내림차순 keyset 페이징 (FeedCursor, post_id 는 pooled 채번이라 작성 순서와 다를 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final FollowGraph followGraph;
+    private final FeedInboxCache feedInboxCache;
+    private final LikedPostCache likedPostCache;
+    private final LikeJdbcRepository likeJdbcRepository;
+
+    /**
+     * 피드 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public PageResponse<PostListGetResponse> getFeed(String email, String cursor, int size) {
+        User user = userRepository.findByEmail(email)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> NotFoundException.user(email));
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        // 한 건 더 조회해서 다음 페이지 여부 판단
+        List<FeedCursor> keys = findFeedKeys(user.getId(), after, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
+        }
+
+        List<Long> ids = keys.stream().map(FeedCursor::getId).toList();
+        List<PostListGetResponse> content = postRepository.findListByIds(ids);
+        if (!content.isEmpty()) {
+            List<Long> postIds = content.stream().map(PostListGetResponse::getPostId).toList();
+            Set<Long> liked = likedPostCache.get(email, postIds, missing -> likeJdbcRepository.findLikedPostIds(email, missing));
+            content = content.stream()
+                    .map(item -> item.withLikedByMe(liked.contains(item.getPostId())))
+                    .toList();
+        }
+
+        // 삭제된 글이 빠져도 커서는 조회한 정렬 키 기준으로 이어감
+        String nextCursor = hasNext ? keys.get(keys.size() - 1).encode() : null;
+        return PageResponse.of(new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext), content, after == FeedCursor.FIRST, nextCursor);
+    }
+
+    /**
+     * 피드 게시글 정렬 키 ((created_at, post_id) 내림차순, 최대 limit 개)
+     * - 수신함 대상 작성자: 수신함에서 읽고, 수신함이 모자라면 그보다 오래된 글만 DB 조회
+     * - 팔로워가 많은 작성자: 작성 시 fan-out 하지 않으므로 DB 에서 조회해 병합
+     * - FollowGraph 적재 전에는 수신함 없이 팔로잉 전체를 DB 조회
+     */
+    private List<FeedCursor> findFeedKeys(Long userId, FeedCursor after, int limit) {
+        if (!followGraph.isReady()) {
+            return findPostKeys(followRepository.findFollowingIds(userId), after, limit);
+        }
+
+        List<Long> fanOutAuthors = new ArrayList<>();
+        List<Long> pullAuthors = new ArrayList<>();
+        for (long authorId : followGraph.followingsOf(userId)) {
+            if (feedInboxCache.isFanOutAuthor(followGraph.followersOf(authorId).length)) {
+                fanOutAuthors.add(authorId);
+            } else {
+                pullAuthors.add(authorId);
+            }
+        }
+
+        FeedInboxCache.Inbox inbox = feedInboxCache.get(userId,
+                capacity -> findPostKeys(fanOutAuthors, FeedCursor.FIRST, capacity));
+        List<FeedCursor> pushed = new ArrayList<>(inbox.before(after, limit));
+        if (pushed.size() < limit && !inbox.isComplete()) {
+            FeedCursor oldest = inbox.oldest();
+            FeedCursor olderThan = oldest.compareTo(after) < 0 ? oldest : after;
+            pushed.addAll(findPostKeys(fanOutAuthors, olderThan, limit - pushed.size()));
+        }
+
+        List<FeedCursor> pulled = findPostKeys(pullAuthors, after, limit);
+
+        // 수신함의 created_at 은 메모리 값이라 DB 값과 정밀도가 다를 수 있어 post_id 로 중복 제거
+        Set<Long> seen = new HashSet<>();
+        return Stream.concat(pushed.stream(), pulled.stream())
+                .sorted(Comparator.reverseOrder())
+                .filter(key -> seen.add(key.getId()))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<FeedCursor> findPostKeys(Collection<Long> authorIds, FeedCursor after, int limit) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findFeedKeysByAuthorIdsBefore(authorIds, after.getCreatedAt(), after.getId(), PageRequest.of(0, limit))
+                .stream()
+                .map(row -> FeedCursor.of((LocalDateTime) row[0], (Long) row[1]))
+                .toList();
+    }
+}
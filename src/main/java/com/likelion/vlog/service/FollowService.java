@@ -1,22 +1,43 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.FeedInboxCache;
+import com.likelion.vlog.cache.FollowSuggestionCache;
+import com.likelion.vlog.dto.follows.FollowCursor;
 import com.likelion.vlog.dto.follows.FollowerGetResponse;
 import com.likelion.vlog.dto.follows.FollowingGetResponse;
 import com.likelion.vlog.dto.follows.FollowDeleteResponse;
 import com.likelion.vlog.dto.follows.FollowPostResponse;
+import com.likelion.vlog.dto.follows.FollowSuggestionGetResponse;
+import com.likelion.vlog.dto.follows.PageResponse;
 import com.likelion.vlog.entity.Follow;
 import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.BadRequestException;
 import com.likelion.vlog.exception.DuplicateException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.index.FollowGraph;
 import com.likelion.vlog.repository.FollowRepository;
 import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +46,20 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final FollowGraph followGraph;
+    private final FeedInboxCache feedInboxCache;
+    private final FollowSuggestionCache followSuggestionCache;
+
+    // 팔로우 추천 탐색 범위 (1단계 사용자 수, 1단계 사용자당 2단계 사용자 수) 와 보관할 후보 수
+    @Value("${vlog.follow-suggestion.max-first-hop:200}")
+    private int maxFirstHop;
+
+    @Value("${vlog.follow-suggestion.max-second-hop:500}")
+    private int maxSecondHop;
+
+    @Value("${vlog.follow-suggestion.max-results:50}")
+    private int maxResults;
 
     /**
      * 팔로우
@@ -34,25 +69,37 @@ public class FollowService {
     public FollowPostResponse follow(Long userId, String email) {
         // 현재 로그인한 사용자 조회
         User follower = userRepository.findByEmail(email)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> NotFoundException.user(email));
 
-        // 팔로우 대상 조회
-        User following = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        // 팔로우 대상 조회 (탈퇴 처리된 계정은 404)
+        User following = findActiveUser(userId);
 
         // 자기 자신을 팔로우할 수 없음
         if (follower.getId().equals(following.getId())) {
             throw BadRequestException.selfFollow();
         }
 
-        // 이미 팔로우 중인지 확인
-        if (followRepository.existsByFollowerAndFollowing(follower, following)) {
+        // 이미 팔로우 중인지 확인 (그래프 적재 전에는 DB 조회)
+        boolean alreadyFollowing = followGraph.isReady()
+                ? followGraph.follows(follower.getId(), following.getId())
+                : followRepository.existsByFollowerAndFollowing(follower, following);
+        if (alreadyFollowing) {
             throw DuplicateException.following();
         }
 
-        // 팔로우 생성
+        // 팔로우 생성 (동시 요청이 위 확인을 함께 통과하면 유니크 제약 위반 -> 409)
         Follow follow = Follow.create(follower, following);
-        followRepository.save(follow);
+        try {
+            followRepository.saveAndFlush(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateException.following();
+        }
+        counterJdbcRepository.addFollowCounts(follower.getId(), following.getId(), 1);
+        invalidateFollowerInboxes(following.getId(), 1);
+        followGraph.add(follower.getId(), following.getId());
+        feedInboxCache.invalidate(follower.getId());
+        followSuggestionCache.invalidate(follower.getId());
 
         return FollowPostResponse.from(following);
     }
@@ -65,11 +112,11 @@ public class FollowService {
     public FollowDeleteResponse unfollow(Long userId, String email) {
         // 현재 로그인한 사용자 조회
         User follower = userRepository.findByEmail(email)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> NotFoundException.user(email));
 
-        // 언팔로우 대상 조회
-        User following = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        // 언팔로우 대상 조회 (탈퇴 처리된 계정은 404)
+        User following = findActiveUser(userId);
 
         // 팔로우 관계 조회
         Follow follow = followRepository.findByFollowerAndFollowing(follower, following)
@@ -77,18 +124,31 @@ public class FollowService {
 
         // 팔로우 삭제
         followRepository.delete(follow);
+        counterJdbcRepository.addFollowCounts(follower.getId(), following.getId(), -1);
+        invalidateFollowerInboxes(following.getId(), -1);
+        followGraph.remove(follower.getId(), following.getId());
+        feedInboxCache.invalidate(follower.getId());
+        followSuggestionCache.invalidate(follower.getId());
 
         return FollowDeleteResponse.from(following);
     }
 
     /**
      * 팔로잉 조회
+     * - FollowGraph 적재 후(정렬 지정 없음): 팔로잉 id 배열에서 페이지 범위만 사용자 조회 (id 오름차순, 1문장)
+     * - 그 외: 팔로우 대상 User 를 목록 쿼리에서 함께 조회 (페이지 크기와 무관하게 목록 + COUNT)
+     * - 사용자 존재 확인은 목록이 비었을 때만 (목록 쿼리가 탈퇴 여부까지 거름)
      */
     public Page<FollowingGetResponse> getFollowings(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        if (canPageFromGraph(pageable)) {
+            return pageOfUsers(userId, followGraph.followingsOf(userId), pageable)
+                    .map(user -> FollowingGetResponse.of(user, true));
+        }
 
-        return followRepository.findByFollower(user, pageable)
+        Page<Follow> follows = followRepository.findWithFollowingByFollowerId(userId, pageable);
+        validateUserExistsIfEmpty(userId, follows.getContent());
+
+        return follows
                 .map(follow ->
                         FollowingGetResponse.of(
                                 follow.getFollowing(),
@@ -97,20 +157,221 @@ public class FollowService {
                 );
     }
 
+    /**
+     * 팔로잉 커서 조회
+     * - (created_at, follow_id) 내림차순 keyset 조회, size+1 건으로 다음 페이지 여부 판단 (COUNT 없음)
+     */
+    public PageResponse<FollowingGetResponse> getFollowingsByCursor(Long userId, String cursor, int size) {
+        FollowCursor after = FollowCursor.decode(cursor);
+        List<Follow> follows = followRepository.findWithFollowingByFollowerIdBefore(
+                userId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1));
+        validateUserExistsIfEmpty(userId, follows);
+
+        boolean hasNext = follows.size() > size;
+        List<Follow> page = hasNext ? follows.subList(0, size) : follows;
+
+        List<FollowingGetResponse> content = page.stream()
+                .map(follow -> FollowingGetResponse.of(follow.getFollowing(), true))
+                .toList();
+        return new PageResponse<>(content, PageResponse.PageInfo.ofCursor(size, hasNext, nextCursor(page, hasNext)));
+    }
+
     /**
      * 팔로워 조회
+     * - FollowGraph 적재 후(정렬 지정 없음): 팔로워 id 배열에서 페이지 범위만 사용자 조회, 맞팔로우 여부도 그래프에서 (1문장)
+     * - 그 외: 팔로워 User 를 목록 쿼리에서 함께 조회, 맞팔로우 여부는 FollowGraph (적재 전에는 IN 쿼리 한 번)
+     * - 사용자 존재 확인은 목록이 비었을 때만 (목록 + COUNT + 맞팔로우 IN, 커서 방식은 COUNT 없이 2문장)
      */
     public Page<FollowerGetResponse> getFollowers(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        if (canPageFromGraph(pageable)) {
+            Page<User> users = pageOfUsers(userId, followGraph.followersOf(userId), pageable);
+            Set<Long> followingBack = followGraph.followingAmong(userId, users.map(User::getId).getContent());
+            return users.map(user -> FollowerGetResponse.of(user, followingBack.contains(user.getId())));
+        }
+
+        Page<Follow> follows = followRepository.findWithFollowerByFollowingId(userId, pageable);
+        validateUserExistsIfEmpty(userId, follows.getContent());
+        Set<Long> followingBack = findFollowingBack(userId, follows.getContent());
+
+        return follows.map(follow -> {
+            User follower = follow.getFollower();
+            return FollowerGetResponse.of(follower, followingBack.contains(follower.getId()));
+        });
+    }
+
+    /**
+     * 팔로워 커서 조회
+     * - (created_at, follow_id) 내림차순 keyset 조회 (COUNT 없음), 맞팔로우 여부는 getFollowers 와 동일
+     */
+    public PageResponse<FollowerGetResponse> getFollowersByCursor(Long userId, String cursor, int size) {
+        FollowCursor after = FollowCursor.decode(cursor);
+        List<Follow> follows = followRepository.findWithFollowerByFollowingIdBefore(
+                userId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1));
+        validateUserExistsIfEmpty(userId, follows);
+
+        boolean hasNext = follows.size() > size;
+        List<Follow> page = hasNext ? follows.subList(0, size) : follows;
+
+        Set<Long> followingBack = findFollowingBack(userId, page);
+        List<FollowerGetResponse> content = page.stream()
+                .map(follow -> FollowerGetResponse.of(follow.getFollower(),
+                        followingBack.contains(follow.getFollower().getId())))
+                .toList();
+        return new PageResponse<>(content, PageResponse.PageInfo.ofCursor(size, hasNext, nextCursor(page, hasNext)));
+    }
+
+    /**
+     * 맞팔로우 조회
+     * - FollowGraph 의 팔로잉 ∩ 팔로워 (id 오름차순) 에서 페이지 범위만 사용자 조회
+     * - 탈퇴 처리된 계정은 그래프(적재 전에는 id 조회 쿼리)에서 이미 빠져 있어 전체 개수에도 포함되지 않음
+     */
+    public Page<FollowingGetResponse> getMutualFollows(Long userId, Pageable pageable) {
+        long[] mutuals = followGraph.isReady()
+                ? followGraph.mutualsOf(userId)
+                : followRepository.findMutualIds(userId).stream().mapToLong(Long::longValue).toArray();
+
+        return pageOfUsers(userId, mutuals, pageable)
+                .map(user -> FollowingGetResponse.of(user, true));
+    }
+
+    /**
+     * 팔로우 추천 (친구의 친구)
+     * - 내가 팔로우하는 사람 중 몇 명이 팔로우하는지 순, 본인과 이미 팔로우 중인 사용자 제외
+     * - 결과는 사용자별로 FollowSuggestionCache 에 보관
+     */
+    public List<FollowSuggestionGetResponse> getSuggestions(Long userId, int size) {
+        validateUserExists(userId);
+
+        List<FollowSuggestionCache.Candidate> candidates = followSuggestionCache.get(userId,
+                () -> followGraph.isReady() ? traverseSecondHop(userId) : countSecondHop(userId));
+
+        Map<Long, User> users = userRepository.findActiveWithBlogByIdIn(candidates.stream()
+                        .map(FollowSuggestionCache.Candidate::userId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        return followRepository.findByFollowing(user, pageable)
-                .map(follow -> {
-                    User follower = follow.getFollower();
-                    boolean isFollowing =
-                            followRepository.existsByFollowerAndFollowing(user, follower);
+        return candidates.stream()
+                .filter(candidate -> users.containsKey(candidate.userId()))
+                .limit(Math.max(size, 0))
+                .map(candidate -> FollowSuggestionGetResponse.of(users.get(candidate.userId()), candidate.mutualCount()))
+                .toList();
+    }
+
+    /**
+     * FollowGraph 2단계 탐색 (탐색 범위 제한)
+     * - 1단계: 내 팔로잉 중 최대 max-first-hop 명
+     * - 2단계: 각자의 팔로잉 중 최대 max-second-hop 명 (팔로잉이 많은 계정이 있어도 탐색량 고정)
+     */
+    private List<FollowSuggestionCache.Candidate> traverseSecondHop(Long userId) {
+        long[] followings = followGraph.followingsOf(userId);
+        Map<Long, Long> counts = new HashMap<>();
+
+        int firstHop = Math.min(followings.length, maxFirstHop);
+        for (int i = 0; i < firstHop; i++) {
+            long[] secondHop = followGraph.followingsOf(followings[i]);
+            int limit = Math.min(secondHop.length, maxSecondHop);
+            for (int j = 0; j < limit; j++) {
+                long candidate = secondHop[j];
+                if (candidate == userId || Arrays.binarySearch(followings, candidate) >= 0) continue;
+                counts.merge(candidate, 1L, Long::sum);
+            }
+        }
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxResults)
+                .map(entry -> new FollowSuggestionCache.Candidate(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * FollowGraph 적재 전 대체: 1단계 id 를 제한한 뒤 GROUP BY 한 번
+     */
+    private List<FollowSuggestionCache.Candidate> countSecondHop(Long userId) {
+        List<Long> followings = followRepository.findFollowingIds(userId);
+        if (followings.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> via = followings.subList(0, Math.min(followings.size(), maxFirstHop));
+        return followRepository.countSecondHop(userId, via, PageRequest.of(0, maxResults)).stream()
+                .map(row -> new FollowSuggestionCache.Candidate((Long) row[0], (Long) row[1]))
+                .toList();
+    }
+
+    // Pageable 정렬은 목록 쿼리에서만 지원 (그래프 배열은 id 오름차순)
+    private boolean canPageFromGraph(Pageable pageable) {
+        return followGraph.isReady() && pageable.getSort().isUnsorted();
+    }
+
+    /**
+     * id 배열(오름차순)에서 페이지 범위만 잘라 userId 본인과 함께 한 번에 조회
+     * - userId 가 없거나 탈퇴 처리된 계정이면 404
+     * - 전체 개수는 배열 길이 (탈퇴 시 FollowGraph.removeUser 로 바로 제외되므로 탈퇴 계정은 세지 않음)
+     */
+    private Page<User> pageOfUsers(Long userId, long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
 
-                    return FollowerGetResponse.of(follower, isFollowing);
-                });
+        List<Long> lookupIds = new ArrayList<>(pageIds);
+        lookupIds.add(userId);
+        Map<Long, User> users = userRepository.findActiveWithBlogByIdIn(lookupIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (!users.containsKey(userId)) {
+            throw NotFoundException.user(userId);
+        }
+
+        // 커밋 직후 그래프 반영 전의 탈퇴 계정은 목록에서만 제외
+        List<User> content = pageIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    // 팔로워 중 userId 가 맞팔로우한 사용자 id (FollowGraph, 적재 전에는 IN 쿼리 한 번)
+    private Set<Long> findFollowingBack(Long userId, List<Follow> follows) {
+        List<Long> followerIds = follows.stream()
+                .map(follow -> follow.getFollower().getId())
+                .toList();
+        if (followerIds.isEmpty()) {
+            return Set.of();
+        }
+        if (followGraph.isReady()) {
+            return followGraph.followingAmong(userId, followerIds);
+        }
+        return followRepository.findFollowingIdsIn(userId, followerIds);
+    }
+
+    // 팔로워 수 변화로 작성자의 피드 fan-out 구분이 바뀌면 기존 팔로워 수신함 제거 (수신함은 그래프 적재 후에만 사용)
+    private void invalidateFollowerInboxes(Long authorId, int delta) {
+        if (!followGraph.isReady()) return;
+
+        long[] followerIds = followGraph.followersOf(authorId);
+        feedInboxCache.onFollowerCountChanged(followerIds, followerIds.length, followerIds.length + delta);
+    }
+
+    private static String nextCursor(List<Follow> page, boolean hasNext) {
+        return hasNext ? FollowCursor.of(page.get(page.size() - 1)).encode() : null;
+    }
+
+    private void validateUserExists(Long userId) {
+        findActiveUser(userId);
+    }
+
+    // 목록 쿼리가 조회 대상의 탈퇴 여부까지 거르므로, 결과가 있으면 사용자 확인 생략
+    private void validateUserExistsIfEmpty(Long userId, List<Follow> follows) {
+        if (follows.isEmpty()) {
+            validateUserExists(userId);
+        }
+    }
+
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
+                .orElseThrow(() -> NotFoundException.user(userId));
     }
 }
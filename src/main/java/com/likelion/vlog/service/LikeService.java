@@ -1,5 +1,8 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.LikedPostCache;
+import com.likelion.vlog.cache.PostListCache;
+import com.likelion.vlog.counter.LikeCountBuffer;
 import com.likelion.vlog.dto.like.LikeResponse;
 import com.likelion.vlog.entity.Like;
 import com.likelion.vlog.entity.Post;
@@ -9,10 +12,14 @@ import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.LikeRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.repository.jdbc.LikeJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -21,9 +28,21 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostListCache postListCache;
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikedPostCache likedPostCache;
+
+    // true 면 좋아요 추가/취소를 단일 문장으로 처리 (중복 추가 409, 없는 취소 404 는 기존 경로와 동일)
+    @Value("${vlog.like.fast-path.enabled:true}")
+    private boolean fastPath;
 
     // 좋아요 추가
     public LikeResponse addLike(String email, Long postId) {
+        if (fastPath) {
+            return toggleLike(email, postId, true, likeJdbcRepository.insertIfAbsent(email, postId));
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> NotFoundException.user(email));
 
@@ -38,18 +57,17 @@ public class LikeService {
         Like like = Like.from(user, post);
         likeRepository.save(like);
 
-        // DB 원자적 연산으로 좋아요 수 증가
-        postRepository.incrementLikeCount(postId);
-
-        // 갱신된 Post 조회하여 likeCount 반환
-        Post updatedPost = postRepository.findById(postId)
-                .orElseThrow(() -> NotFoundException.post(postId));
-
-        return LikeResponse.from(updatedPost.getLikeCount(),true);
+        applyLikeDelta(postId, 1);
+        likedPostCache.update(email, postId, true);
+        return LikeResponse.from(likeCount(postId, 1), true);
     }
 
     // 좋아요 삭제
     public LikeResponse removeLike(String email, Long postId) {
+        if (fastPath) {
+            return toggleLike(email, postId, false, likeJdbcRepository.deleteIfPresent(email, postId));
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> NotFoundException.user(email));
 
@@ -58,14 +76,73 @@ public class LikeService {
 
         likeRepository.delete(like);
 
-        // DB 원자적 연산으로 좋아요 수 감소
-        postRepository.decrementLikeCount(postId);
+        applyLikeDelta(postId, -1);
+        likedPostCache.update(email, postId, false);
+        return LikeResponse.from(likeCount(postId, -1), false);
+    }
 
-        // 갱신된 Post 조회하여 likeCount 반환
-        Post updatedPost = postRepository.findById(postId)
-                .orElseThrow(() -> NotFoundException.post(postId));
+    /**
+     * 빠른 경로 공통 처리
+     * - 실제로 추가/삭제된 행이 있을 때만 좋아요 수 변경 및 캐시 갱신
+     * - 영향 받은 행이 없으면 기존 경로와 같은 예외 (응답 코드 유지)
+     * @param affected insert-if-absent / delete-if-present 로 영향 받은 행 수
+     */
+    private LikeResponse toggleLike(String email, Long postId, boolean liked, int affected) {
+        if (affected == 0) {
+            throw unchangedReason(email, postId, liked);
+        }
 
-        return LikeResponse.from(updatedPost.getLikeCount(), false);
+        int delta = liked ? 1 : -1;
+        applyLikeDelta(postId, delta);
+        likedPostCache.update(email, postId, liked);
+        return LikeResponse.from(likeCount(postId, delta), liked);
+    }
+
+    /**
+     * 추가/삭제된 행이 없는 원인 (기존 경로와 같은 순서로 확인)
+     * - 사용자 없음: 404
+     * - 추가: 이미 좋아요 409, 아니면 게시글 없음 404
+     * - 삭제: 좋아요 기록 없음 404
+     */
+    private RuntimeException unchangedReason(String email, Long postId, boolean liked) {
+        if (!userRepository.existsByEmail(email)) {
+            return NotFoundException.user(email);
+        }
+        if (!liked) {
+            return NotFoundException.like();
+        }
+        if (likeJdbcRepository.existsLike(email, postId)) {
+            return DuplicateException.like();
+        }
+        return NotFoundException.post(postId);
+    }
+
+    /**
+     * 좋아요 수 증감
+     * - 버퍼 사용 시 커밋 후 LikeCountBuffer 에 누적 (posts 행 잠금 없음, 목록 캐시는 flush 후 제거)
+     * - 아니면 DB 원자적 연산 후 목록 캐시 제거
+     */
+    private void applyLikeDelta(Long postId, int delta) {
+        if (likeCountBuffer.isEnabled()) {
+            likeCountBuffer.add(postId, delta);
+        } else {
+            likeJdbcRepository.addLikeCount(postId, delta);
+            postListCache.evictLiked(postId);
+        }
+    }
+
+    /**
+     * 현재 좋아요 수
+     * @param uncommitted 이번 트랜잭션의 증감분 (버퍼에는 커밋 후에 누적되므로 응답에 직접 반영)
+     */
+    private Integer likeCount(Long postId, int uncommitted) {
+        if (!likeCountBuffer.isEnabled()) {
+            return likeJdbcRepository.findLikeCount(postId)
+                    .orElseThrow(() -> NotFoundException.post(postId));
+        }
+        return likeCountBuffer.current(postId)
+                .map(count -> Math.max(0, count + uncommitted))
+                .orElseThrow(() -> NotFoundException.post(postId));
     }
 
     // 좋아요 정보 조회 (로그인 / 비로그인 모두 허용)
@@ -73,21 +150,16 @@ public class LikeService {
     public LikeResponse getLikeInfo(String email, Long postId) {
 
         // 1. 전체 좋아요 수 (항상 조회)
-        Integer count = postRepository.findById(postId)
-                .map(Post::getLikeCount)
-                .orElseThrow(() -> NotFoundException.post(postId));
+        Integer count = likeCount(postId, 0);
 
         // 2. 비로그인 사용자
         if (email == null) {
             return LikeResponse.from(count, false);
         }
 
-        // 3. 로그인 사용자
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-
-
-        boolean checkLike = likeRepository.existsByUserIdAndPostId(user.getId(), postId);
+        // 3. 로그인 사용자 (사용자별 좋아요 캐시 -> 없으면 likes 조회)
+        boolean checkLike = likedPostCache.get(email, List.of(postId), ids -> likeJdbcRepository.findLikedPostIds(email, ids))
+                .contains(postId);
         return LikeResponse.from(count, checkLike);
     }
 }
\ No newline at end of file
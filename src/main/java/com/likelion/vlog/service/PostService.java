@@ -1,18 +1,38 @@
 package com.likelion.vlog.service;
 
-import com.likelion.vlog.dto.comments.CommentWithRepliesGetResponse;
+import com.likelion.vlog.cache.FeedInboxCache;
+import com.likelion.vlog.cache.LikedPostCache;
+import com.likelion.vlog.cache.PostListCache;
+import com.likelion.vlog.counter.ViewCountBuffer;
 import com.likelion.vlog.dto.posts.*;
 import com.likelion.vlog.entity.*;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.index.DeletedBlogIndex;
+import com.likelion.vlog.index.FollowGraph;
+import com.likelion.vlog.index.PostSearchIndex;
+import com.likelion.vlog.index.TagAutocompleteIndex;
+import com.likelion.vlog.index.TagBitmapIndex;
 import com.likelion.vlog.repository.*;
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository;
+import com.likelion.vlog.repository.jdbc.LikeJdbcRepository;
+import com.likelion.vlog.repository.jdbc.TagJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 게시글 비즈니스 로직
@@ -26,10 +46,23 @@ public class PostService {
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
     private final TagMapRepository tagMapRepository;
+    private final TagJdbcRepository tagJdbcRepository;
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostListCache postListCache;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final DeletedBlogIndex deletedBlogIndex;
+    private final LikedPostCache likedPostCache;
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final CommentService commentService;
+    private final FollowGraph followGraph;
+    private final FeedInboxCache feedInboxCache;
 
     /**
      * 게시글 목록 조회 (페이징 + 필터링)
@@ -61,38 +94,82 @@ public class PostService {
         return PageResponse.of(postPage, content);
     }
 
-    public PageResponse<PostListGetResponse> getPosts(PostGetRequest request) {
-        Page<Post> postPage = postRepository.search(request);
-        List<Post> posts = postPage.getContent();
-        List<PostListGetResponse> content = posts.stream()
-                .map(PostListGetResponse::of)
+    /**
+     * 게시글 목록 검색
+     * - 목록 프로젝션 조회 (본문 대신 요약, 작성자는 조인으로 함께 조회)
+     * - 같은 조건의 반복 요청은 PostListCache 에서 응답
+     * - 로그인 사용자면 페이지 전체의 좋아요 여부(likedByMe)를 한 번에 채움
+     * @param email 로그인 사용자 이메일 (비로그인이면 null)
+     */
+    public PageResponse<PostListGetResponse> getPosts(PostGetRequest request, String email) {
+        PageResponse<PostListGetResponse> response = postListCache.get(request, () -> searchPosts(request));
+        if (email == null || response.getContent().isEmpty()) {
+            return response;
+        }
+
+        List<Long> postIds = response.getContent().stream()
+                .map(PostListGetResponse::getPostId)
                 .toList();
-        return PageResponse.of(postPage, content);
+        Set<Long> liked = likedPostCache.get(email, postIds, ids -> likeJdbcRepository.findLikedPostIds(email, ids));
+
+        return response.withContent(response.getContent().stream()
+                .map(item -> item.withLikedByMe(liked.contains(item.getPostId())))
+                .toList());
+    }
+
+    private PageResponse<PostListGetResponse> searchPosts(PostGetRequest request) {
+        if (request.isCursorMode()) {
+            return getPostsByCursor(request);
+        }
+        if (request.isSliceMode()) {
+            Slice<PostListGetResponse> postSlice = postRepository.searchSlice(request);
+            return PageResponse.of(postSlice, postSlice.getContent());
+        }
+
+        Page<PostListGetResponse> postPage = postRepository.search(request);
+        return PageResponse.of(postPage, postPage.getContent());
+    }
+
+    /**
+     * 게시글 목록 커서 조회
+     * - 마지막 행의 정렬값 + id 기준으로 다음 페이지 조회 (OFFSET / COUNT 없음)
+     */
+    private PageResponse<PostListGetResponse> getPostsByCursor(PostGetRequest request) {
+        Slice<PostListGetResponse> postSlice = postRepository.searchByCursor(request);
+        List<PostListGetResponse> content = postSlice.getContent();
+
+        String nextCursor = postSlice.hasNext()
+                ? PostCursor.of(content.get(content.size() - 1), request).encode()
+                : null;
+        boolean first = request.getCursor() == null || request.getCursor().isBlank();
+
+        return PageResponse.of(postSlice, content, first, nextCursor);
     }
 
     /**
      * 게시글 상세 조회
-     * - 댓글/대댓글 포함
+     * - 댓글 첫 페이지 포함 (다음 페이지는 댓글 목록 API 로)
+     * - 조회수는 메모리에 누적 후 주기적으로 반영 (ViewCountBuffer)
      */
     public PostGetResponse getPost(Long postId) {
+        // 탈퇴 처리된 계정의 글은 정리 전이라도 없는 글로 취급
         Post post = postRepository.findById(postId)
+                .filter(found -> !deletedBlogIndex.contains(found.getBlog().getId()))
                 .orElseThrow(() -> NotFoundException.post(postId));
 
-        List<String> tags = getTagNames(post);
+        viewCountBuffer.increment(postId);
 
-        // 댓글 조회 (대댓글 포함)
-        List<CommentWithRepliesGetResponse> comments = commentRepository.findAllByPostWithChildren(post)
-                .stream()
-                .map(CommentWithRepliesGetResponse::from)
-                .toList();
+        List<String> tags = getTagNames(post);
 
-        return PostGetResponse.of(post, tags, comments);
+        // 댓글 첫 페이지 (답글은 댓글별 답글 수 + 앞 일부만)
+        return PostGetResponse.of(post, tags, commentService.getFirstComments(postId));
     }
 
     /**
      * 게시글 작성
      * - User -> Blog 조회 후 Post 생성
      * - 태그가 있으면 자동 생성/매핑
+     * - 팔로워 피드 수신함에 커밋 후 추가
      */
     @Transactional
     public PostGetResponse createPost(PostCreatePostRequest request, String email) {
@@ -105,9 +182,17 @@ public class PostService {
         // Post 생성 (정적 팩토리 메서드 사용)
         Post post = Post.of(request.getTitle(), request.getContent(), blog);
         Post savedPost = postRepository.save(post);
+        counterJdbcRepository.addPostCount(blog.getId(), 1);
+        postSearchIndex.putPost(savedPost.getId(), savedPost.getTitle());
+        tagBitmapIndex.addPost(savedPost.getId(), blog.getId());
+        if (followGraph.isReady()) {
+            feedInboxCache.fanOut(followGraph.followersOf(user.getId()),
+                    FeedCursor.of(savedPost.getCreatedAt(), savedPost.getId()));
+        }
 
         // 태그 저장 (없는 태그는 새로 생성)
         List<String> tagNames = saveTags(savedPost, request.getTags());
+        postListCache.evictPost(blog.getId(), tagNames);
 
         return PostGetResponse.of(savedPost, tagNames);
     }
@@ -115,7 +200,7 @@ public class PostService {
     /**
      * 게시글 수정
      * - 작성자 본인만 수정 가능 (권한 검증)
-     * - 기존 태그 삭제 후 새로 저장
+     * - 태그는 현재 태그와 비교해서 빠진 것만 삭제, 추가된 것만 저장 (변경 없으면 태그 작업 생략)
      */
     @Transactional
     public PostGetResponse updatePost(Long postId, PostUpdatePutRequest request, String email) {
@@ -128,10 +213,16 @@ public class PostService {
         }
 
         post.update(request.getTitle(), request.getContent());
+        postSearchIndex.putPost(post.getId(), post.getTitle());
 
-        // 태그 업데이트: 기존 매핑 삭제 후 새로 저장
-        tagMapRepository.deleteAllByPost(post);
-        List<String> tagNames = saveTags(post, request.getTags());
+        // 태그 업데이트: 차이만 반영
+        List<Tag> currentTags = tagMapRepository.findTagsByPostId(post.getId());
+        List<String> tagNames = updateTags(post, currentTags, request.getTags());
+
+        // 목록 캐시: 변경 전/후 태그 조건에 걸리는 항목 제거
+        List<String> affectedTags = new ArrayList<>(titlesOf(currentTags));
+        affectedTags.addAll(tagNames);
+        postListCache.evictPost(post.getBlog().getId(), affectedTags);
 
         return PostGetResponse.of(post, tagNames);
     }
@@ -139,7 +230,7 @@ public class PostService {
     /**
      * 게시글 삭제
      * - 작성자 본인만 삭제 가능
-     * - 태그 매핑도 함께 삭제
+     * - 대댓글 -> 댓글 -> 좋아요 -> 태그 매핑 -> 게시글 순서로 일괄 삭제 (행 수와 무관하게 쿼리 수 고정)
      */
     @Transactional
     public void deletePost(Long postId, String email) {
@@ -150,13 +241,22 @@ public class PostService {
             throw ForbiddenException.postDelete();
         }
 
-        // 연관 데이터 먼저 삭제 (FK 제약조건 때문)
+        Long blogId = post.getBlog().getId();
+        List<String> tagNames = titlesOf(tagMapRepository.findTagsByPostId(postId));
+        postListCache.evictPost(blogId, tagNames);
+        tagAutocompleteIndex.removeUsages(tagNames);
+
+        // 연관 데이터 먼저 삭제 (FK 제약조건 때문), 모두 DELETE ... WHERE post_id = ? 한 번씩
+        commentRepository.deleteRepliesByPostId(postId);
         commentRepository.deleteAllByPostId(postId);
         likeRepository.deleteAllByPostId(postId);
         tagMapRepository.deleteAllByPostId(postId);
 
         // Post 삭제
-        postRepository.delete(post);
+        postRepository.deleteByIdInBulk(postId);
+        counterJdbcRepository.addPostCount(blogId, -1);
+        postSearchIndex.removePost(postId);
+        tagBitmapIndex.removePost(postId);
     }
 
     /**
@@ -171,27 +271,129 @@ public class PostService {
 
     /**
      * 태그 저장 (없으면 생성)
-     * - 이미 존재하는 태그면 재사용
-     * - 없는 태그면 새로 생성
-     * - Post-Tag 매핑(TagMap) 생성
+     * - 태그 개수와 무관하게 고정된 횟수의 쿼리로 처리
+     *   1. 기존 태그 한 번에 조회 (IN)
+     *   2. 없는 태그만 multi-row INSERT IGNORE
+     *   3. 새로 만든 태그 다시 조회 (IN)
+     *   4. Post-Tag 매핑(TagMap) JDBC batch INSERT
      */
     private List<String> saveTags(Post post, List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
+        List<Tag> tags = resolveTags(sanitizeTagNames(tagNames).values());
+        addTagMaps(post, tags);
+        return titlesOf(tags);
+    }
+
+    /**
+     * 태그 변경분만 반영
+     * - 삭제: 현재 태그 - 요청 태그 (DELETE ... IN 한 번)
+     * - 추가: 요청 태그 - 현재 태그 (saveTags 와 같은 방식)
+     * - 색인에도 같은 변경분만 전달
+     * @return 요청 순서대로의 태그 이름
+     */
+    private List<String> updateTags(Post post, List<Tag> currentTags, List<String> tagNames) {
+        Map<String, String> requested = sanitizeTagNames(tagNames);
+        Map<String, Tag> current = new LinkedHashMap<>();
+        currentTags.forEach(tag -> current.put(tagKey(tag.getTitle()), tag));
+
+        if (current.keySet().equals(requested.keySet())) {
+            return requested.keySet().stream()
+                    .map(key -> current.get(key).getTitle())
+                    .toList();
+        }
+
+        List<Tag> removed = current.entrySet().stream()
+                .filter(entry -> !requested.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        List<String> addedTitles = requested.entrySet().stream()
+                .filter(entry -> !current.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        removeTagMaps(post, removed);
+        List<Tag> added = resolveTags(addedTitles);
+        addTagMaps(post, added);
+
+        Map<String, Tag> result = new HashMap<>(current);
+        added.forEach(tag -> result.put(tagKey(tag.getTitle()), tag));
+        return requested.keySet().stream()
+                .map(result::get)
+                .filter(Objects::nonNull)
+                .map(Tag::getTitle)
+                .toList();
+    }
+
+    private void addTagMaps(Post post, List<Tag> tags) {
+        if (tags.isEmpty()) return;
+
+        // 게시글 insert 는 flush 시점까지 미뤄지므로 JDBC 로 매핑을 쓰기 전에 반영 (FK)
+        postRepository.flush();
+
+        tagJdbcRepository.insertTagMaps(post.getId(), tags.stream().map(Tag::getId).toList());
+
+        // 태그 비트맵 / 자동완성 색인 반영 (커밋 후)
+        tagBitmapIndex.addTags(post.getId(), tags);
+        tagAutocompleteIndex.addUsages(titlesOf(tags));
+    }
+
+    private void removeTagMaps(Post post, List<Tag> tags) {
+        if (tags.isEmpty()) return;
+
+        List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+        tagMapRepository.deleteAllByPostIdAndTagIdIn(post.getId(), tagIds);
+
+        tagBitmapIndex.removeTags(post.getId(), tagIds);
+        tagAutocompleteIndex.removeUsages(titlesOf(tags));
+    }
+
+    /**
+     * 태그 이름 정리 (키: 소문자 이름, 값: 처음 입력된 이름, 입력 순서 유지)
+     * - 공백/빈 값 제거, 대소문자만 다른 이름은 하나로 취급 (tags.title collation 과 동일)
+     */
+    private Map<String, String> sanitizeTagNames(List<String> tagNames) {
+        Map<String, String> titles = new LinkedHashMap<>();
+        if (tagNames == null) return titles;
+
+        for (String tagName : tagNames) {
+            if (tagName == null || tagName.isBlank()) continue;
+            String title = tagName.trim();
+            titles.putIfAbsent(tagKey(title), title);
+        }
+        return titles;
+    }
+
+    /**
+     * 태그 이름 목록 -> Tag 목록 (입력 순서 유지, 없는 태그는 생성)
+     */
+    private List<Tag> resolveTags(Collection<String> titles) {
+        if (titles.isEmpty()) {
             return List.of();
         }
 
-        return tagNames.stream()
-                .map(tagName -> {
-                    // 태그 조회 또는 생성 (정적 팩토리 메서드 사용)
-                    Tag tag = tagRepository.findByTitle(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.of(tagName)));
+        Map<String, Tag> found = new HashMap<>();
+        tagRepository.findByTitleIn(titles)
+                .forEach(tag -> found.put(tagKey(tag.getTitle()), tag));
 
-                    // Post-Tag 매핑 생성 (정적 팩토리 메서드 사용)
-                    TagMap tagMap = TagMap.of(post, tag);
-                    tagMapRepository.save(tagMap);
+        List<String> missing = titles.stream()
+                .filter(title -> !found.containsKey(tagKey(title)))
+                .toList();
+        if (!missing.isEmpty()) {
+            tagJdbcRepository.insertIgnore(missing);
+            tagRepository.findByTitleIn(missing)
+                    .forEach(tag -> found.put(tagKey(tag.getTitle()), tag));
+        }
 
-                    return tagName;
-                })
+        return titles.stream()
+                .map(title -> found.get(tagKey(title)))
+                .filter(Objects::nonNull)
                 .toList();
     }
-}
\ No newline at end of file
+
+    private static List<String> titlesOf(List<Tag> tags) {
+        return tags.stream().map(Tag::getTitle).toList();
+    }
+
+    private static String tagKey(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
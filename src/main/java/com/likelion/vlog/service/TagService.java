@@ -1,19 +1,31 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.dto.tags.TagAutocompleteGetResponse;
 import com.likelion.vlog.dto.tags.TagGetResponse;
+import com.likelion.vlog.index.TagAutocompleteIndex;
 import com.likelion.vlog.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
 
     public TagGetResponse getTag (String tagName){
         return TagGetResponse.from(tagRepository.findByTitle(tagName).orElse(null));
     }
+
+    // 태그 자동완성 (인메모리 트라이, DB 조회 없음)
+    public List<TagAutocompleteGetResponse> getTagsByPrefix(String prefix, int size) {
+        return tagAutocompleteIndex.suggest(prefix, size).stream()
+                .map(TagAutocompleteGetResponse::from)
+                .toList();
+    }
 }
@@ -1,5 +1,6 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.PostListCache;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
 
@@ -7,61 +8,70 @@ import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.InvalidCredentialsException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.index.DeletedBlogIndex;
+import com.likelion.vlog.index.FollowGraph;
+import com.likelion.vlog.index.PostSearchIndex;
+import com.likelion.vlog.index.TagAutocompleteIndex;
+import com.likelion.vlog.index.TagBitmapIndex;
 import com.likelion.vlog.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
-    private final FollowRepository followRepository;
     private final TagMapRepository tagMapRepository;
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final PostListCache postListCache;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+    private final DeletedBlogIndex deletedBlogIndex;
+    private final FollowGraph followGraph;
 
     public UserGetResponse getUser(Long userId){
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        User user = findActiveUser(userId);
         return UserGetResponse.of(user);
     }
 
     @Transactional
     public UserGetResponse updateUser(Long userId, UserUpdateRequest userUpdateRequest, String email) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        User user = findActiveUser(userId);
 
         // 권한 검증: 본인만 수정 가능
         if (!user.getEmail().equals(email)) {
             throw ForbiddenException.userUpdate();
         }
 
+        String oldNickname = user.getNickname();
         user.upDateInfo(userUpdateRequest, passwordEncoder);
 
         userRepository.save(user);
+        postSearchIndex.putNickname(user.getBlog().getId(), user.getNickname());
+        if (!user.getNickname().equals(oldNickname)) {
+            postListCache.evictAuthor(userId);
+        }
         return UserGetResponse.of(user);
     }
 
 
     /**
      * 회원 탈퇴
-     * - 권한 검증 및 비밀번호 확인 후 User 및 모든 연관 데이터 삭제
-     * - 삭제 순서:
-     *   1. User가 직접 작성/생성한 것들 (댓글, 좋아요, 팔로우)
-     *   2. User의 Blog에 속한 Post들의 연관 데이터 (댓글, 좋아요, 태그)
-     *   3. User의 Blog에 속한 Post들
-     *   4. Blog (cascade로 자동 삭제)
-     *   5. User
+     * - 권한 검증 및 비밀번호 확인 후 탈퇴 시각만 기록하고 바로 반환
+     * - 탈퇴 계정의 게시글은 즉시 검색 색인/목록/상세 조회에서 제외
+     * - 팔로우 관계는 즉시 FollowGraph 에서 제외 (팔로워/팔로잉/맞팔로우 목록과 개수)
+     * - 댓글, 좋아요, 팔로우, 태그, 게시글, 블로그, 계정 삭제는 AccountPurgeJob 이 chunk 단위로 처리
      */
     @Transactional
     public void deleteUser(Long userId, String password, String email) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> NotFoundException.user(userId));
+        User user = findActiveUser(userId);
 
         // 권한 검증: 본인만 탈퇴 가능
         if (!user.getEmail().equals(email)) {
@@ -73,25 +83,30 @@ public class UserService {
             throw InvalidCredentialsException.password();
         }
 
-        deleteRelationship(userId);
-
-        // 4-5단계: Blog은 cascade=ALL이므로 User 삭제 시 자동 삭제됨
-        userRepository.delete(user);
+        user.markDeleted();
+
+        // 검색 색인/캐시 정리 (행 삭제는 purge 작업에서)
+        Long blogId = user.getBlog().getId();
+        List<Long> postIds = postRepository.findIdsByBlogUserId(userId);
+        List<String> tagTitles = tagMapRepository.findTagTitlesByPostBlogUserId(userId);
+
+        deletedBlogIndex.add(blogId);
+        followGraph.removeUser(userId);
+        postSearchIndex.removePosts(postIds);
+        postSearchIndex.removeBlog(blogId);
+        tagBitmapIndex.removePosts(postIds);
+        tagAutocompleteIndex.removeUsages(tagTitles);
+        if (!postIds.isEmpty()) {
+            postListCache.evictPost(blogId, null);
+            postListCache.evictAuthor(userId);
+        }
     }
 
-
-    private void deleteRelationship(Long userId) {
-        // 1단계: User가 직접 작성/생성한 것들 삭제
-        commentRepository.deleteAllByUserId(userId);           // 내가 쓴 댓글
-        likeRepository.deleteAllByUserId(userId);              // 내가 누른 좋아요
-        followRepository.deleteAllByFollowerId(userId);        // 내가 팔로우한 관계
-        followRepository.deleteAllByFollowingId(userId);       // 나를 팔로우한 관계
-        // 2단계: User의 Blog에 속한 Post들의 연관 데이터 삭제
-        commentRepository.deleteAllByPostBlogUserId(userId);   // 내 게시글의 댓글들
-        likeRepository.deleteAllByPostBlogUserId(userId);      // 내 게시글의 좋아요들
-        tagMapRepository.deleteAllByPostBlogUserId(userId);    // 내 게시글의 태그들
-        // 3단계: User의 Blog에 속한 Post들 삭제
-        postRepository.deleteAllByBlogUserId(userId);
+    // 탈퇴 처리된 계정은 없는 계정으로 취급
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
+                .orElseThrow(() -> NotFoundException.user(userId));
     }
 
 }
@@ -0,0 +1,52 @@
+package com.likelion.vlog.util;
+
+import com.likelion.vlog.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징 커서 토큰 인코딩/해석 (게시글/피드/댓글/팔로우 커서 공용)
+ * - 값들을 "|" 로 이어 붙여 URL-safe Base64 (padding 없음) 로 인코딩
+ * - 각 커서는 값의 문자열 변환과 파싱만 담당
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        StringJoiner raw = new StringJoiner(DELIMITER);
+        for (Object value : values) {
+            raw.add(String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 size 개의 값으로 나눠 parser 로 변환
+     * - Base64 / 값 개수 / 값 파싱(숫자, 날짜, enum) 오류는 모두 400
+     */
+    public static <T> T decode(String token, int size, Function<String[], T> parser) {
+        if (token == null) {
+            throw BadRequestException.invalidFormat("cursor");
+        }
+
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(token);
+            String[] parts = new String(decoded, StandardCharsets.UTF_8).split("\\" + DELIMITER, -1);
+            if (parts.length != size) {
+                throw BadRequestException.invalidFormat("cursor");
+            }
+            return parser.apply(parts);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw BadRequestException.invalidFormat("cursor");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.likelion.vlog.util;
+
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화
+ * - 모든 공백 제거 + 소문자 변환 (공백/대소문자 무시 검색)
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return null;
+        return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -183,6 +183,14 @@ INSERT INTO posts (post_id, blog_id, title, content, view_count, like_count, cre
 (99, 19, 'SMS 인증', '문자 인증 구현', 125, 0, NOW(), NOW()),
 (100, 20, '결제 연동', '결제 시스템 통합', 188, 9, NOW(), NOW());
 
+-- 목록용 본문 요약 (Post.excerptOf 와 동일: 연속 공백을 하나로 줄이고 앞뒤 공백 제거 후 EXCERPT_LENGTH 까지)
+UPDATE posts SET excerpt = LEFT(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), 150) WHERE excerpt IS NULL;
+
+-- 검색용 정규화 컬럼 (공백 제거 + 소문자, TextNormalizer 와 동일)
+UPDATE users SET nickname_normalized = LOWER(REGEXP_REPLACE(nickname, '[[:space:]]+', '')) WHERE nickname_normalized IS NULL;
+UPDATE blogs SET title_normalized = LOWER(REGEXP_REPLACE(title, '[[:space:]]+', '')) WHERE title_normalized IS NULL;
+UPDATE posts SET title_normalized = LOWER(REGEXP_REPLACE(title, '[[:space:]]+', '')) WHERE title_normalized IS NULL;
+
 -- 5. 태그 매핑 데이터 (각 게시글마다 1-3개 태그)
 INSERT INTO tag_maps (tag_map_id, post_id, tag_id, created_at, updated_at) VALUES
 -- Post 1-10
@@ -623,4 +631,18 @@ INSERT INTO follows (follow_id, follower_id, following_id, created_at, updated_a
 -- User 19의 팔로우
 (91, 19, 9, NOW(), NOW()), (92, 19, 11, NOW(), NOW()), (93, 19, 15, NOW(), NOW()), (94, 19, 20, NOW(), NOW()), (95, 19, 8, NOW(), NOW()),
 -- User 20의 팔로우
-(96, 20, 10, NOW(), NOW()), (97, 20, 12, NOW(), NOW()), (98, 20, 16, NOW(), NOW()), (99, 20, 1, NOW(), NOW()), (100, 20, 9, NOW(), NOW());
\ No newline at end of file
+(96, 20, 10, NOW(), NOW()), (97, 20, 12, NOW(), NOW()), (98, 20, 16, NOW(), NOW()), (99, 20, 1, NOW(), NOW()), (100, 20, 9, NOW(), NOW());
+
+-- 9. 팔로워/팔로잉/게시글 수 (명시적으로 넣은 행 기준으로 계산)
+UPDATE users u SET
+  follower_count = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.user_id),
+  following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.user_id);
+UPDATE blogs b SET post_count = (SELECT COUNT(*) FROM posts p WHERE p.blog_id = b.blog_id);
+
+-- 10. id 채번 시작값 (명시적으로 넣은 id 이후부터, allocationSize 50 블록 여유)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(user_id), 0) + 51 FROM users
+UNION ALL SELECT 'blogs', COALESCE(MAX(blog_id), 0) + 51 FROM blogs
+UNION ALL SELECT 'posts', COALESCE(MAX(post_id), 0) + 51 FROM posts
+UNION ALL SELECT 'comments', COALESCE(MAX(comment_id), 0) + 51 FROM comments
+UNION ALL SELECT 'follows', COALESCE(MAX(follow_id), 0) + 51 FROM follows;
@@ -0,0 +1,66 @@
+-- v-log 기존 DB 마이그레이션 (v-log-sql.sql 로 새로 만든 DB 는 실행하지 않음)
+-- 기존 데이터를 지우지 않고 컬럼 / 인덱스 / 테이블만 추가
+-- 운영은 ddl-auto: validate 이므로 반드시 아래 순서대로
+--   1. 이 파일의 [1] ~ [3] 실행 (애플리케이션 배포 전)
+--   2. 새 버전 애플리케이션 기동 (vlog.backfill.normalized-columns.enabled=true, vlog.repair.counters.enabled=true)
+--   3. 백필 / 보정 완료 로그 확인 후 [4] 실행, 두 설정은 다시 false 로
+-- 새 컬럼은 백필 / 보정이 끝날 때까지 NULL 허용 (백필 작업은 NULL 인 행만 채움)
+
+-- [1] 엔티티 id 채번 (Hibernate TableGenerator, allocationSize = 50)
+-- 시작값을 기존 최대 id 보다 크게 넣지 않으면 1 부터 채번해 기존 id 와 PK 충돌
+CREATE TABLE IF NOT EXISTS `id_sequences` (
+  `sequence_name` varchar(255) PRIMARY KEY NOT NULL,
+  `next_val` bigint
+);
+
+INSERT IGNORE INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'users', COALESCE(MAX(user_id), 0) + 51 FROM users
+UNION ALL SELECT 'blogs', COALESCE(MAX(blog_id), 0) + 51 FROM blogs
+UNION ALL SELECT 'posts', COALESCE(MAX(post_id), 0) + 51 FROM posts
+UNION ALL SELECT 'comments', COALESCE(MAX(comment_id), 0) + 51 FROM comments
+UNION ALL SELECT 'follows', COALESCE(MAX(follow_id), 0) + 51 FROM follows;
+
+-- [2] 컬럼 추가 (모두 NULL 허용, 기본값 없음)
+-- 검색용 정규화 컬럼: NormalizedColumnBackfillJob 이 채움
+-- 카운터: CounterRepairJob 이 채움 (NULL 은 응답에서 0 으로 표시)
+-- 탈퇴 시각: 탈퇴 요청 시에만 채워짐
+ALTER TABLE `users`
+  ADD COLUMN `nickname_normalized` varchar(255) NULL,
+  ADD COLUMN `follower_count` int NULL,
+  ADD COLUMN `following_count` int NULL,
+  ADD COLUMN `deleted_at` datetime NULL;
+
+ALTER TABLE `blogs`
+  ADD COLUMN `title_normalized` varchar(255) NULL,
+  ADD COLUMN `post_count` int NULL;
+
+ALTER TABLE `posts`
+  ADD COLUMN `title_normalized` varchar(255) NULL,
+  ADD COLUMN `excerpt` varchar(150) NULL;
+
+-- [3] 인덱스 추가
+CREATE INDEX `idx_follows_follower_created_at` ON `follows` (`follower_id`, `created_at`, `follow_id`);
+CREATE INDEX `idx_follows_following_created_at` ON `follows` (`following_id`, `created_at`, `follow_id`);
+CREATE INDEX `idx_comments_post_parent_created_at` ON `comments` (`post_id`, `parent_id`, `created_at`, `comment_id`);
+CREATE INDEX `idx_comments_parent_created_at` ON `comments` (`parent_id`, `created_at`, `comment_id`);
+CREATE INDEX `idx_posts_created_at` ON `posts` (`created_at`);
+CREATE INDEX `idx_posts_updated_at` ON `posts` (`updated_at`);
+CREATE INDEX `idx_posts_view_count` ON `posts` (`view_count`);
+CREATE INDEX `idx_posts_like_count` ON `posts` (`like_count`);
+CREATE INDEX `idx_posts_blog_created_at` ON `posts` (`blog_id`, `created_at`);
+CREATE INDEX `idx_posts_title_normalized` ON `posts` (`title_normalized`);
+CREATE INDEX `idx_blogs_title_normalized` ON `blogs` (`title_normalized`);
+CREATE INDEX `idx_users_nickname_normalized` ON `users` (`nickname_normalized`);
+CREATE INDEX `idx_users_deleted_at` ON `users` (`deleted_at`);
+
+-- [4] 애플리케이션 기동 후: 목록용 본문 요약 채움 + 카운터 기본값 (v-log-sql.sql 과 같은 최종 형태)
+-- 요약은 Post.excerptOf 와 동일 (연속 공백을 하나로 줄이고 앞뒤 공백 제거 후 150자)
+-- 게시글이 많으면 post_id 범위 조건(AND post_id BETWEEN ? AND ?)을 붙여 나눠 실행
+UPDATE `posts` SET `excerpt` = LEFT(TRIM(REGEXP_REPLACE(`content`, '[[:space:]]+', ' ')), 150) WHERE `excerpt` IS NULL;
+
+ALTER TABLE `users`
+  ALTER COLUMN `follower_count` SET DEFAULT 0,
+  ALTER COLUMN `following_count` SET DEFAULT 0;
+
+ALTER TABLE `blogs`
+  ALTER COLUMN `post_count` SET DEFAULT 0;
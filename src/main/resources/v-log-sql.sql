@@ -11,16 +11,29 @@ DROP TABLE IF EXISTS `tags`;
 DROP TABLE IF EXISTS `posts`;
 DROP TABLE IF EXISTS `blogs`;
 DROP TABLE IF EXISTS `users`;
+DROP TABLE IF EXISTS `id_sequences`;
 
 SET FOREIGN_KEY_CHECKS = 1;
 
 -- 테이블 생성
 
+-- 엔티티 id 채번 (Hibernate TableGenerator, allocationSize = 50)
+CREATE TABLE `id_sequences` (
+  `sequence_name` varchar(255) PRIMARY KEY NOT NULL,
+  `next_val` bigint
+);
+
+-- 기존 데이터가 있는 DB 는 이 파일 대신 v-log-migration.sql 로 생성 + 시작값 입력 (없으면 기존 id 와 PK 충돌)
+
 CREATE TABLE `users` (
   `user_id` bigint PRIMARY KEY NOT NULL AUTO_INCREMENT,
   `email` varchar(255) UNIQUE NOT NULL,
   `password` varchar(255) NOT NULL,
   `nickname` varchar(255) UNIQUE NOT NULL,
+  `nickname_normalized` varchar(255),
+  `follower_count` int DEFAULT 0,
+  `following_count` int DEFAULT 0,
+  `deleted_at` datetime,
   `created_at` datetime,
   `updated_at` datetime
 );
@@ -29,6 +42,8 @@ CREATE TABLE `blogs` (
   `blog_id` bigint PRIMARY KEY NOT NULL AUTO_INCREMENT,
   `user_id` bigint NOT NULL,
   `title` varchar(255) NOT NULL,
+  `title_normalized` varchar(255),
+  `post_count` int DEFAULT 0,
   `created_at` datetime,
   `updated_at` datetime
 );
@@ -37,7 +52,9 @@ CREATE TABLE `posts` (
   `post_id` bigint PRIMARY KEY NOT NULL AUTO_INCREMENT,
   `blog_id` bigint NOT NULL,
   `title` varchar(255),
+  `title_normalized` varchar(255),
   `content` MEDIUMTEXT,
+  `excerpt` varchar(150),
   `view_count` int DEFAULT 0,
   `like_count` int DEFAULT 0,
   `created_at` datetime,
@@ -93,6 +110,32 @@ CREATE UNIQUE INDEX `likes_index_1` ON `likes` (`user_id`, `post_id`);
 
 CREATE UNIQUE INDEX `follows_index_2` ON `follows` (`follower_id`, `following_id`);
 
+CREATE INDEX `idx_follows_follower_created_at` ON `follows` (`follower_id`, `created_at`, `follow_id`);
+
+CREATE INDEX `idx_follows_following_created_at` ON `follows` (`following_id`, `created_at`, `follow_id`);
+
+CREATE INDEX `idx_comments_post_parent_created_at` ON `comments` (`post_id`, `parent_id`, `created_at`, `comment_id`);
+
+CREATE INDEX `idx_comments_parent_created_at` ON `comments` (`parent_id`, `created_at`, `comment_id`);
+
+CREATE INDEX `idx_posts_created_at` ON `posts` (`created_at`);
+
+CREATE INDEX `idx_posts_updated_at` ON `posts` (`updated_at`);
+
+CREATE INDEX `idx_posts_view_count` ON `posts` (`view_count`);
+
+CREATE INDEX `idx_posts_like_count` ON `posts` (`like_count`);
+
+CREATE INDEX `idx_posts_blog_created_at` ON `posts` (`blog_id`, `created_at`);
+
+CREATE INDEX `idx_posts_title_normalized` ON `posts` (`title_normalized`);
+
+CREATE INDEX `idx_blogs_title_normalized` ON `blogs` (`title_normalized`);
+
+CREATE INDEX `idx_users_nickname_normalized` ON `users` (`nickname_normalized`);
+
+CREATE INDEX `idx_users_deleted_at` ON `users` (`deleted_at`);
+
 -- 외래키 설정
 
 ALTER TABLE `blogs` ADD FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`);
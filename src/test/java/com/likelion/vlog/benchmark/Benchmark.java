@@ -0,0 +1,52 @@
+package com.likelion.vlog.benchmark;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 벤치마크 측정 도구
+ * - 워밍업 후 runs 번 실행한 소요시간(ms)의 평균 / p50 / p95, 초당 처리량, 1회당 SQL 문장 수
+ * - SQL 문장 수는 statements 누적값의 실행 전후 차이 (Hibernate 통계 또는 StatementCounter)
+ */
+public final class Benchmark {
+
+    private Benchmark() {
+    }
+
+    public record Result(String label, double avgMs, double p50Ms, double p95Ms, double statements) {
+
+        public double throughput() {
+            return avgMs == 0 ? 0 : 1000 / avgMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-56s avg=%9.3fms p50=%9.3fms p95=%9.3fms ops/s=%9.1f statements=%6.1f",
+                    label, avgMs, p50Ms, p95Ms, throughput(), statements);
+        }
+    }
+
+    public static Result measure(String label, LongSupplier statements, int warmup, int runs, Runnable task) {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+
+        long statementsBefore = statements.getAsLong();
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        double statementsPerRun = (double) (statements.getAsLong() - statementsBefore) / runs;
+
+        Arrays.sort(nanos);
+        double avg = Arrays.stream(nanos).average().orElse(0) / 1_000_000;
+        return new Result(label, avg, percentile(nanos, 50), percentile(nanos, 95), statementsPerRun);
+    }
+
+    private static double percentile(long[] sorted, int percent) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percent / 100.0) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
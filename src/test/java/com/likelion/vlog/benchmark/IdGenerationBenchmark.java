@@ -0,0 +1,140 @@
+package com.likelion.vlog.benchmark;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.dto.posts.PostCreatePostRequest;
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.service.FollowService;
+import com.likelion.vlog.service.PostService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * pooled TableGenerator 채번 (allocationSize 50) + JDBC batch 의 쓰기 비용 측정
+ * - 태그 포함 게시글 작성, 댓글 일괄 저장, 연속 팔로우 요청별 JDBC 문장 수와 처리량
+ * - 문장 수는 채번(id_sequences) 조회/갱신과 JdbcTemplate 문장까지 포함 (StatementCounter)
+ * - 실행: ./gradlew benchmark --tests '*IdGenerationBenchmark'
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+@Import(StatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IdGenerationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerationBenchmark.class);
+
+    private static final int WARMUP = 20;
+    private static final int RUNS = 200;
+    private static final int COMMENTS_PER_REQUEST = 100;
+    private static final int FOLLOWS_PER_BURST = 20;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private User author;
+    private Long postId;
+    private List<Long> followTargets;
+    private List<String> followers;
+
+    @BeforeAll
+    void seed() {
+        author = userRepository.save(user("author"));
+        postId = postService.createPost(postRequest(-1), author.getEmail()).getPostId();
+
+        followTargets = IntStream.range(0, FOLLOWS_PER_BURST)
+                .mapToObj(i -> userRepository.save(user("target" + i)).getId())
+                .toList();
+        followers = IntStream.range(0, WARMUP + RUNS)
+                .mapToObj(i -> userRepository.save(user("follower" + i)).getEmail())
+                .toList();
+    }
+
+    @Test
+    void postWithTags() {
+        AtomicInteger next = new AtomicInteger();
+        report(Benchmark.measure("post with 3 tags (1 new)", statementCounter::count, WARMUP, RUNS,
+                () -> postService.createPost(postRequest(next.getAndIncrement()), author.getEmail())));
+    }
+
+    @Test
+    void bulkComments() {
+        report(Benchmark.measure(COMMENTS_PER_REQUEST + " comments in one transaction", statementCounter::count, WARMUP, RUNS,
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    User user = entityManager.getReference(User.class, author.getId());
+                    Post post = entityManager.getReference(Post.class, postId);
+                    commentRepository.saveAll(IntStream.range(0, COMMENTS_PER_REQUEST)
+                            .mapToObj(i -> Comment.of(user, post, "comment " + i))
+                            .toList());
+                })));
+    }
+
+    @Test
+    void followBurst() {
+        AtomicInteger next = new AtomicInteger();
+        report(Benchmark.measure(FOLLOWS_PER_BURST + " follow requests", statementCounter::count, WARMUP, RUNS, () -> {
+            String email = followers.get(next.getAndIncrement());
+            followTargets.forEach(target -> followService.follow(target, email));
+        }));
+    }
+
+    private void report(Benchmark.Result result) {
+        log.info("IdGenerationBenchmark {}", result);
+    }
+
+    private static PostCreatePostRequest postRequest(int index) {
+        PostCreatePostRequest request = new PostCreatePostRequest();
+        request.setTitle("post " + index);
+        request.setContent("content " + index);
+        // 자주 쓰는 태그 2개 + 새 태그 1개
+        request.setTags(List.of("spring", "jpa", "tag" + index));
+        return request;
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,194 @@
+package com.likelion.vlog.benchmark;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.QBlog;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.util.TextNormalizer;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 검색 조건 비교 (SearchFiled 별)
+ * - before: 조회 시 원본 컬럼을 REGEXP_REPLACE 로 공백 제거 + 대소문자 무시 비교 (정규화 컬럼 도입 이전 방식)
+ * - after: 저장 시 채운 *_normalized 컬럼과 정규화된 키워드 비교 (contains / prefix)
+ * - 목록 1페이지 + COUNT 한 번을 1회로 측정, before 와 after(contains) 결과가 같은지도 확인
+ * - H2 는 POSIX 문자 클래스([[:space:]])를 지원하지 않아 before 는 \s+ 로 대신함
+ * - 색인(PostSearchIndex)을 거치지 않는 SQL 조건만 비교
+ * - 실행: ./gradlew benchmark --tests '*NormalizedSearchBenchmark'
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NormalizedSearchBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(NormalizedSearchBenchmark.class);
+
+    private static final int USERS = 200;
+    private static final int POSTS = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20;
+    private static final int RUNS = 100;
+    private static final String[] TITLES = {"Spring Boot Tip", "spring  boot 정리", "JPA 성능", "Query DSL 사용기", "일상 기록"};
+    private static final Map<SearchFiled, String> KEYWORDS = Map.of(
+            SearchFiled.TITLE, "springboot",
+            SearchFiled.BLOG, "Author 1",
+            SearchFiled.NICKNAME, "author 1"
+    );
+
+    private static final QPost post = QPost.post;
+    private static final QBlog blog = QBlog.blog;
+    private static final QUser user = QUser.user;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Random random = new Random(42);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Blog> blogs = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                User author = user("Author " + i);
+                entityManager.persist(author);
+                blogs.add(author.getBlog());
+            }
+
+            for (int i = 0; i < POSTS; i++) {
+                String title = TITLES[random.nextInt(TITLES.length)] + " " + i;
+                entityManager.persist(Post.of(title, "content " + i, blogs.get(random.nextInt(USERS))));
+                if (i % 1000 == 999) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    @Test
+    void compareSearchConditions() {
+        List<Benchmark.Result> results = new ArrayList<>();
+
+        for (SearchFiled field : SearchFiled.values()) {
+            String keyword = KEYWORDS.get(field);
+            BooleanExpression before = regexpMatch(rawColumn(field), keyword);
+            BooleanExpression contains = normalizedColumn(field).contains(TextNormalizer.normalize(keyword));
+            BooleanExpression prefix = normalizedColumn(field).startsWith(TextNormalizer.normalize(keyword));
+
+            assertThat(ids(contains)).isEqualTo(ids(before));
+            assertThat(count(contains)).isEqualTo(count(before));
+
+            results.add(measure("before regexp " + field, before));
+            results.add(measure("after contains " + field, contains));
+            results.add(measure("after prefix " + field, prefix));
+        }
+
+        log.info("NormalizedSearchBenchmark (posts={}, users={}, pageSize={})\n{}", POSTS, USERS, PAGE_SIZE,
+                String.join("\n", results.stream().map(Benchmark.Result::toString).toList()));
+    }
+
+    private Benchmark.Result measure(String label, BooleanExpression condition) {
+        return Benchmark.measure(label, statistics::getPrepareStatementCount, WARMUP, RUNS, () -> {
+            ids(condition);
+            count(condition);
+        });
+    }
+
+    // 정규화 컬럼 도입 이전 PostExpression.whitespaceIgnoreCase 와 같은 형태
+    private static BooleanExpression regexpMatch(StringPath field, String keyword) {
+        String normalized = keyword.trim().replaceAll("\\s+", "");
+        return Expressions.stringTemplate("CONCAT('', REGEXP_REPLACE({0}, '\\s+', ''))", field)
+                .containsIgnoreCase(normalized);
+    }
+
+    private static StringPath rawColumn(SearchFiled field) {
+        return switch (field) {
+            case TITLE -> post.title;
+            case BLOG -> blog.title;
+            case NICKNAME -> user.nickname;
+        };
+    }
+
+    private static StringPath normalizedColumn(SearchFiled field) {
+        return switch (field) {
+            case TITLE -> post.titleNormalized;
+            case BLOG -> blog.titleNormalized;
+            case NICKNAME -> user.nicknameNormalized;
+        };
+    }
+
+    private List<Long> ids(BooleanExpression condition) {
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .join(post.blog, blog)
+                .join(blog.user, user)
+                .where(condition)
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private Long count(BooleanExpression condition) {
+        return jpaQueryFactory
+                .select(post.count())
+                .from(post)
+                .join(post.blog, blog)
+                .join(blog.user, user)
+                .where(condition)
+                .fetchOne();
+    }
+
+    private User user(String nickname) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(nickname.replace(" ", "").toLowerCase() + "@test.com");
+        request.setPassword("password");
+        request.setNickname(nickname);
+        return User.of(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,187 @@
+package com.likelion.vlog.benchmark;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.TagMap;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.index.PostSearchIndex;
+import com.likelion.vlog.index.TagBitmapIndex;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.querydsl.custom.PostRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 전략 비교
+ * - 2단계(정렬된 id 페이지 -> IN 으로 채움) vs 단일 쿼리(조인 + 정렬 + offset)
+ * - 태그 조건 없음 / AND / OR / NAND x 페이지 깊이별 소요시간과 SQL 문장 수
+ * - 두 전략의 결과 순서가 같은지도 함께 확인
+ * - 실행: ./gradlew benchmark --tests '*PostListStrategyBenchmark'
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostListStrategyBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PostListStrategyBenchmark.class);
+
+    private static final int USERS = 200;
+    private static final int POSTS = 20_000;
+    private static final int TAGS = 30;
+    private static final int TAGS_PER_POST = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGES = {0, 10, 100, 500};
+    private static final int WARMUP = 20;
+    private static final int RUNS = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostRepositoryImpl postRepositoryImpl;
+
+    @Autowired
+    private TagBitmapIndex tagBitmapIndex;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Random random = new Random(42);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<com.likelion.vlog.entity.Tag> tags = IntStream.range(0, TAGS)
+                    .mapToObj(i -> com.likelion.vlog.entity.Tag.of("tag" + i))
+                    .toList();
+            tags.forEach(entityManager::persist);
+
+            List<Blog> blogs = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                User user = user("author" + i);
+                entityManager.persist(user);
+                blogs.add(user.getBlog());
+            }
+
+            for (int i = 0; i < POSTS; i++) {
+                Post post = Post.of("post " + i, "content " + i, blogs.get(random.nextInt(USERS)));
+                entityManager.persist(post);
+                // 앞쪽 태그일수록 자주 쓰이도록 (멱법칙에 가까운 분포)
+                IntStream.generate(() -> (int) (Math.pow(random.nextDouble(), 3) * TAGS))
+                        .distinct()
+                        .limit(TAGS_PER_POST)
+                        .forEach(t -> entityManager.persist(TagMap.of(post, tags.get(t))));
+                if (i % 1000 == 999) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        // 색인은 애플리케이션 시작 시(데이터 없음) 적재되므로 다시 적재
+        tagBitmapIndex.load();
+        postSearchIndex.load();
+    }
+
+    @Test
+    void compareStrategies() {
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<TagMode> modes = Arrays.asList(null, TagMode.AND, TagMode.OR, TagMode.NAND);
+
+        for (TagMode mode : modes) {
+            for (int page : PAGES) {
+                PostGetRequest request = request(mode, page);
+
+                setTwoPhase(false);
+                List<Long> single = ids(request);
+                results.add(Benchmark.measure(label("single-query", mode, page), statistics::getPrepareStatementCount, WARMUP, RUNS,
+                        () -> postRepository.search(request)));
+
+                setTwoPhase(true);
+                List<Long> twoPhase = ids(request);
+                results.add(Benchmark.measure(label("two-phase", mode, page), statistics::getPrepareStatementCount, WARMUP, RUNS,
+                        () -> postRepository.search(request)));
+
+                assertThat(twoPhase).isEqualTo(single);
+            }
+        }
+
+        log.info("PostListStrategyBenchmark (posts={}, tags={}, pageSize={})\n{}", POSTS, TAGS, PAGE_SIZE,
+                String.join("\n", results.stream().map(Benchmark.Result::toString).toList()));
+    }
+
+    private PostGetRequest request(TagMode mode, int page) {
+        PostGetRequest request = new PostGetRequest();
+        request.setPage(page);
+        request.setSize(PAGE_SIZE);
+        if (mode != null) {
+            request.setTag(List.of("tag0", "tag1"));
+            request.setTagMode(mode);
+        }
+        return request;
+    }
+
+    private List<Long> ids(PostGetRequest request) {
+        return postRepository.search(request).getContent().stream()
+                .map(PostListGetResponse::getPostId)
+                .toList();
+    }
+
+    private void setTwoPhase(boolean twoPhase) {
+        ReflectionTestUtils.setField(postRepositoryImpl, "twoPhase", twoPhase);
+    }
+
+    private static String label(String strategy, TagMode mode, int page) {
+        return String.format("%s tag=%s page=%d", strategy, mode == null ? "none" : mode.name(), page);
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,111 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.FeedCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FeedInboxCache 수신함 적재 / fan-out 동시성
+ * - 트랜잭션 밖에서 호출하므로 afterCommit 작업은 즉시 실행됨
+ */
+class FeedInboxCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private FeedInboxCache feedInboxCache;
+
+    @BeforeEach
+    void setUp() {
+        feedInboxCache = new FeedInboxCache(100, 10, Duration.ofMinutes(30), 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void fanOutDuringRebuildIsKeptInCachedInbox() throws Exception {
+        FeedCursor loaded = FeedCursor.of(NOW, 10L);
+        FeedCursor pushed = FeedCursor.of(NOW.plusSeconds(1), 11L);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        CompletableFuture<FeedInboxCache.Inbox> rebuild = CompletableFuture.supplyAsync(() ->
+                feedInboxCache.get(USER_ID, capacity -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return List.of(loaded);
+                }));
+
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        feedInboxCache.fanOut(new long[]{USER_ID}, pushed);
+        releaseLoader.countDown();
+
+        FeedInboxCache.Inbox rebuilt = rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(rebuilt.before(FeedCursor.FIRST, 10)).containsExactly(pushed, loaded);
+
+        // 저장된 수신함에도 반영 (다시 조회하지 않음)
+        FeedInboxCache.Inbox cached = feedInboxCache.get(USER_ID, capacity -> {
+            throw new AssertionError("cached inbox expected");
+        });
+        assertThat(cached.before(FeedCursor.FIRST, 10)).containsExactly(pushed, loaded);
+        assertThat(cached.isComplete()).isTrue();
+    }
+
+    @Test
+    void fanOutOverlappingLoadedPostIsNotDuplicated() throws Exception {
+        FeedCursor post = FeedCursor.of(NOW, 10L);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        CompletableFuture<FeedInboxCache.Inbox> rebuild = CompletableFuture.supplyAsync(() ->
+                feedInboxCache.get(USER_ID, capacity -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return List.of(post);
+                }));
+
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        feedInboxCache.fanOut(new long[]{USER_ID}, post);
+        releaseLoader.countDown();
+
+        assertThat(rebuild.get(5, TimeUnit.SECONDS).before(FeedCursor.FIRST, 10)).containsExactly(post);
+    }
+
+    @Test
+    void invalidateDuringRebuildDoesNotCacheStaleInbox() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        CompletableFuture<FeedInboxCache.Inbox> rebuild = CompletableFuture.supplyAsync(() ->
+                feedInboxCache.get(USER_ID, capacity -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return List.of(FeedCursor.of(NOW, 10L));
+                }));
+
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        feedInboxCache.invalidate(USER_ID);
+        releaseLoader.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        FeedInboxCache.Inbox reloaded = feedInboxCache.get(USER_ID, capacity -> List.of());
+        assertThat(reloaded.before(FeedCursor.FIRST, 10)).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
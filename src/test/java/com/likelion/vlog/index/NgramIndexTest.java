@@ -0,0 +1,135 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.util.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NgramIndex 검색 결과가 정규화 문자열의 contains / startsWith (SQL LIKE '%x%' / 'x%') 와 같은지
+ * - 작은 문자 집합으로 만든 임의 문자열이라 1-gram / 2-gram 이 많이 겹침
+ * - put (교체) / remove / putIfAbsent 후에도 같은지
+ */
+class NgramIndexTest {
+
+    private static final String ALPHABET = "가나다abAB ";
+    private static final int DOCUMENTS = 300;
+
+    private final Random random = new Random(3);
+    private NgramIndex index;
+    private Map<Long, String> expected;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        expected = new HashMap<>();
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            put(id, randomText(1, 10));
+        }
+    }
+
+    @Test
+    void search_matchesContainsAndPrefix() {
+        assertMatchesNaive();
+    }
+
+    @Test
+    void search_ignoresWhitespaceAndCase() {
+        index.put(1_000L, "Spring Boot 정리");
+
+        assertThat(index.search(TextNormalizer.normalize("springboot"), false)).contains(1_000L);
+        assertThat(index.search(TextNormalizer.normalize("SPRING b"), true)).contains(1_000L);
+        assertThat(index.search(TextNormalizer.normalize("boot 정"), true)).doesNotContain(1_000L);
+    }
+
+    @Test
+    void putReplacesPreviousText() {
+        for (long id = 1; id <= DOCUMENTS; id += 3) {
+            put(id, randomText(1, 10));
+        }
+        assertMatchesNaive();
+    }
+
+    @Test
+    void removeDropsIdFromAllGrams() {
+        for (long id = 2; id <= DOCUMENTS; id += 2) {
+            index.remove(id);
+            expected.remove(id);
+        }
+        assertMatchesNaive();
+        assertThat(index.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void putIfAbsentKeepsExistingText() {
+        put(1L, "가나 다");
+
+        index.putIfAbsent(1L, "다른 제목");
+        index.putIfAbsent(DOCUMENTS + 1L, "새 제목");
+        expected.put(DOCUMENTS + 1L, TextNormalizer.normalize("새 제목"));
+
+        assertThat(index.search("가나다", true)).contains(1L);
+        assertThat(index.search(TextNormalizer.normalize("다른제목"), false)).doesNotContain(1L);
+        assertThat(index.search(TextNormalizer.normalize("새제목"), false)).containsExactly(DOCUMENTS + 1L);
+        assertMatchesNaive();
+    }
+
+    @Test
+    void blankTextIsNotIndexed() {
+        int before = index.size();
+        index.put(1_000L, "   ");
+
+        assertThat(index.size()).isEqualTo(before);
+        assertThat(index.search("", false)).isEmpty();
+    }
+
+    // 1~4 글자 키워드 전수 비교 대신 임의 추출 (문자 집합이 작아 대부분의 gram 조합을 지남)
+    private void assertMatchesNaive() {
+        for (int i = 0; i < 500; i++) {
+            String keyword = TextNormalizer.normalize(randomText(1, 4));
+            if (keyword.isEmpty()) continue;
+
+            for (boolean prefix : new boolean[]{false, true}) {
+                assertThat(index.search(keyword, prefix))
+                        .as("keyword=%s prefix=%s", keyword, prefix)
+                        .isEqualTo(naive(keyword, prefix));
+            }
+        }
+    }
+
+    private SortedSet<Long> naive(String keyword, boolean prefix) {
+        SortedSet<Long> ids = new TreeSet<>();
+        expected.forEach((id, text) -> {
+            if (prefix ? text.startsWith(keyword) : text.contains(keyword)) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private void put(long id, String text) {
+        index.put(id, text);
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized.isEmpty()) {
+            expected.remove(id);
+        } else {
+            expected.put(id, normalized);
+        }
+    }
+
+    private String randomText(int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,228 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.QBlog;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.util.TextNormalizer;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostSearchIndex 매칭 결과가 정규화 컬럼 LIKE 조회와 같은지 (TITLE / BLOG / NICKNAME, contains / prefix)
+ * - 색인은 새 인스턴스에 직접 적재 (애플리케이션 시작 시 적재된 빈과 분리)
+ * - 같은 DB 를 쓰는 다른 테스트의 데이터와 섞이지 않도록 이 테스트가 만든 id 범위만 비교
+ * - 갱신 테스트가 바꾸는 앞쪽 게시글(4건) / 블로그(2건)는 비교에서 제외
+ * - 트랜잭션 밖 갱신은 즉시, 트랜잭션 안 갱신은 커밋 후에만 반영되는지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchIndexTest {
+
+    private static final int USERS = 20;
+    private static final int POSTS = 200;
+    private static final String SYLLABLES = "가나다라마 ";
+    private static final int UPDATED_POSTS = 4;
+    private static final int UPDATED_BLOGS = 2;
+
+    // 로그인하지 않는 시드 사용자
+    @SuppressWarnings("deprecation")
+    private static final PasswordEncoder PASSWORD_ENCODER = NoOpPasswordEncoder.getInstance();
+
+    private static final QPost post = QPost.post;
+    private static final QBlog blog = QBlog.blog;
+    private static final QUser user = QUser.user;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Random random = new Random(5);
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> blogIds = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+
+    private PostSearchIndex index;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Blog> blogs = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                User author = user(i, "검색" + randomText(2, 6) + i);
+                entityManager.persist(author);
+                userIds.add(author.getId());
+                blogIds.add(author.getBlog().getId());
+                blogs.add(author.getBlog());
+            }
+            for (int i = 0; i < POSTS; i++) {
+                Post created = Post.of(randomText(1, 12), "content", blogs.get(random.nextInt(USERS)));
+                entityManager.persist(created);
+                postIds.add(created.getId());
+            }
+        });
+
+        index = new PostSearchIndex(jpaQueryFactory);
+        index.load();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaQueryFactory.delete(post).where(post.id.in(postIds)).execute();
+            userIds.forEach(id -> entityManager.remove(entityManager.find(User.class, id)));
+        });
+    }
+
+    @Test
+    void find_matchesNormalizedColumnLike() {
+        List<Long> comparedPosts = postIds.subList(UPDATED_POSTS, postIds.size());
+        List<Long> comparedBlogs = blogIds.subList(UPDATED_BLOGS, blogIds.size());
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomText(1, 3);
+            if (TextNormalizer.normalize(keyword).isEmpty()) continue;
+
+            for (boolean prefix : new boolean[]{false, true}) {
+                assertThat(indexed(SearchFiled.TITLE, keyword, prefix, comparedPosts))
+                        .as("TITLE keyword=%s prefix=%s", keyword, prefix)
+                        .isEqualTo(postsLike(keyword, prefix, comparedPosts));
+                assertThat(indexed(SearchFiled.BLOG, keyword, prefix, comparedBlogs))
+                        .as("BLOG keyword=%s prefix=%s", keyword, prefix)
+                        .isEqualTo(blogsLike(blog.titleNormalized, keyword, prefix, comparedBlogs));
+                assertThat(indexed(SearchFiled.NICKNAME, keyword, prefix, comparedBlogs))
+                        .as("NICKNAME keyword=%s prefix=%s", keyword, prefix)
+                        .isEqualTo(blogsLike(user.nicknameNormalized, keyword, prefix, comparedBlogs));
+            }
+        }
+    }
+
+    @Test
+    void find_ignoresWhitespaceAndCase() {
+        Long postId = postIds.get(0);
+        index.putPost(postId, "Spring Boot 정리");
+
+        assertThat(index.find(SearchFiled.TITLE, "springboot", false)).hasValueSatisfying(ids -> assertThat(ids).contains(postId));
+        assertThat(index.find(SearchFiled.TITLE, "SPRING B", true)).hasValueSatisfying(ids -> assertThat(ids).contains(postId));
+        assertThat(index.find(SearchFiled.TITLE, "  ", false)).isEmpty();
+    }
+
+    @Test
+    void updatesOutsideTransactionApplyImmediately() {
+        Long postId = postIds.get(1);
+        Long blogId = blogIds.get(1);
+
+        index.putPost(postId, "갱신된 제목 xyz");
+        index.putBlog(blogId, "새 블로그 qwe", "새닉네임 asd");
+        assertThat(index.find(SearchFiled.TITLE, "제목xyz", false)).hasValue(List.of(postId));
+        assertThat(index.find(SearchFiled.BLOG, "블로그qwe", false)).hasValue(List.of(blogId));
+        assertThat(index.find(SearchFiled.NICKNAME, "새닉네임", true)).hasValue(List.of(blogId));
+
+        index.putNickname(blogId, "다른닉 zxc");
+        assertThat(index.find(SearchFiled.NICKNAME, "새닉네임", true)).hasValue(List.of());
+        assertThat(index.find(SearchFiled.NICKNAME, "닉zxc", false)).hasValue(List.of(blogId));
+
+        index.removePost(postId);
+        index.removeBlog(blogId);
+        assertThat(index.find(SearchFiled.TITLE, "제목xyz", false)).hasValue(List.of());
+        assertThat(index.find(SearchFiled.BLOG, "블로그qwe", false)).hasValue(List.of());
+        assertThat(index.find(SearchFiled.NICKNAME, "닉zxc", false)).hasValue(List.of());
+    }
+
+    @Test
+    void updatesInsideTransactionApplyOnlyAfterCommit() {
+        Long rolledBack = postIds.get(2);
+        Long committed = postIds.get(3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            index.putPost(rolledBack, "롤백 제목 rrr");
+            status.setRollbackOnly();
+        });
+        assertThat(index.find(SearchFiled.TITLE, "rrr", false)).hasValue(List.of());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            index.putPost(committed, "커밋 제목 ccc");
+            // 커밋 전에는 반영되지 않음
+            assertThat(index.find(SearchFiled.TITLE, "ccc", false)).hasValue(List.of());
+        });
+        assertThat(index.find(SearchFiled.TITLE, "ccc", false)).hasValue(List.of(committed));
+    }
+
+    // 색인 결과 중 이 테스트가 만든 id 만
+    private List<Long> indexed(SearchFiled field, String keyword, boolean prefix, List<Long> scope) {
+        return index.find(field, keyword, prefix).orElseThrow().stream()
+                .filter(scope::contains)
+                .toList();
+    }
+
+    // 게시글 제목 정규화 컬럼 LIKE (id 오름차순)
+    private List<Long> postsLike(String keyword, boolean prefix, List<Long> scope) {
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(like(post.titleNormalized, keyword, prefix), post.id.in(scope))
+                .orderBy(post.id.asc())
+                .fetch();
+    }
+
+    // 블로그 제목 / 작성자 닉네임 정규화 컬럼 LIKE (blog_id 오름차순)
+    private List<Long> blogsLike(StringPath column, String keyword, boolean prefix, List<Long> scope) {
+        return jpaQueryFactory
+                .select(blog.id)
+                .from(blog)
+                .join(blog.user, user)
+                .where(like(column, keyword, prefix), blog.id.in(scope))
+                .orderBy(blog.id.asc())
+                .fetch();
+    }
+
+    private static BooleanExpression like(StringPath column, String keyword, boolean prefix) {
+        String normalized = TextNormalizer.normalize(keyword);
+        return prefix ? column.startsWith(normalized) : column.contains(normalized);
+    }
+
+    private String randomText(int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return text.toString();
+    }
+
+    private User user(int index, String nickname) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("search" + index + "@test.com");
+        request.setPassword("password");
+        request.setNickname(nickname);
+        return User.of(request, PASSWORD_ENCODER);
+    }
+}
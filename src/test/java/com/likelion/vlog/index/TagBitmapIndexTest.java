@@ -0,0 +1,254 @@
+package com.likelion.vlog.index;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.entity.TagMap;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.enums.TagMode;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TagBitmapIndex 의 AND / OR / NAND 결과가 tag_maps 를 직접 조회한 결과와 같은지
+ * - 게시글마다 임의의 태그 조합을 붙이고, 태그 1~3개 조합과 없는 태그가 섞인 조합을 모두 비교
+ * - 태그 제목은 대소문자 무시 (tags.title collation 과 동일)
+ * - 커밋된 태그 추가/삭제, 게시글 삭제는 반영되고 롤백된 갱신은 반영되지 않는지
+ * - 같은 DB 를 쓰는 다른 테스트의 게시글과 섞이지 않도록 이 테스트가 만든 게시글 범위만 비교
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TagBitmapIndexTest {
+
+    private static final int POSTS = 150;
+    private static final List<String> TAGS = List.of("bm-java", "bm-spring", "bm-jpa", "bm-mysql", "bm-redis", "bm-docker");
+    private static final String MISSING_TAG = "bm-none";
+
+    private static final QPost post = QPost.post;
+    private static final QTag tag = QTag.tag;
+    private static final QTagMap tagMap = QTagMap.tagMap;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> postIds = new ArrayList<>();
+    private final List<Long> tagIds = new ArrayList<>();
+    private Long userId;
+
+    @BeforeAll
+    void seed() {
+        Random random = new Random(9);
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = user("bitmap");
+            entityManager.persist(author);
+            userId = author.getId();
+
+            List<Tag> tags = new ArrayList<>();
+            for (String title : TAGS) {
+                Tag created = Tag.of(title);
+                entityManager.persist(created);
+                tags.add(created);
+                tagIds.add(created.getId());
+            }
+
+            for (int i = 0; i < POSTS; i++) {
+                Post created = Post.of("bitmap " + i, "content", author.getBlog());
+                entityManager.persist(created);
+                postIds.add(created.getId());
+                // 태그별로 다른 확률 (자주 쓰는 태그 / 드문 태그), 태그 없는 글도 생김
+                for (int t = 0; t < tags.size(); t++) {
+                    if (random.nextDouble() < 0.6 / (t + 1)) {
+                        entityManager.persist(TagMap.of(created, tags.get(t)));
+                    }
+                }
+            }
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaQueryFactory.delete(tagMap).where(tagMap.post.id.in(postIds)).execute();
+            jpaQueryFactory.delete(post).where(post.id.in(postIds)).execute();
+            jpaQueryFactory.delete(tag).where(tag.id.in(tagIds)).execute();
+            entityManager.remove(entityManager.find(User.class, userId));
+        });
+    }
+
+    @Test
+    void match_equalsSql() {
+        assertMatchesSql(loadedIndex());
+    }
+
+    @Test
+    void match_ignoresTitleCaseAndBlankTags() {
+        TagBitmapIndex index = loadedIndex();
+
+        List<String> messy = new ArrayList<>(List.of(" BM-Java ", "bm-SPRING", ""));
+        messy.add(null);
+        for (TagMode mode : TagMode.values()) {
+            assertThat(scoped(index.match(mode, messy).orElseThrow()))
+                    .as("%s", mode)
+                    .isEqualTo(sql(mode, List.of("bm-java", "bm-spring")));
+        }
+        assertThat(index.match(TagMode.OR, List.of(" ", ""))).isEmpty();
+    }
+
+    @Test
+    void committedUpdatesAreApplied_rolledBackAreNot() {
+        TagBitmapIndex index = loadedIndex();
+        Long retagged = postIds.get(0);
+        Long tagged = postIds.get(1);
+        Long removed = postIds.get(2);
+
+        // 롤백: DB 와 색인 모두 그대로
+        transactionTemplate.executeWithoutResult(status -> {
+            index.removePosts(List.of(retagged, tagged, removed));
+            status.setRollbackOnly();
+        });
+        assertMatchesSql(index);
+
+        // 커밋: 태그 전부 제거 / 태그 추가 / 게시글 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> retaggedTagIds = jpaQueryFactory
+                    .select(tagMap.tag.id)
+                    .from(tagMap)
+                    .where(tagMap.post.id.eq(retagged))
+                    .fetch();
+            jpaQueryFactory.delete(tagMap).where(tagMap.post.id.eq(retagged)).execute();
+            index.removeTags(retagged, retaggedTagIds);
+
+            List<Tag> newTags = new ArrayList<>();
+            for (Long tagId : tagIds) {
+                boolean exists = jpaQueryFactory
+                        .selectOne()
+                        .from(tagMap)
+                        .where(tagMap.post.id.eq(tagged), tagMap.tag.id.eq(tagId))
+                        .fetchFirst() != null;
+                if (!exists) {
+                    Tag newTag = entityManager.find(Tag.class, tagId);
+                    entityManager.persist(TagMap.of(entityManager.getReference(Post.class, tagged), newTag));
+                    newTags.add(newTag);
+                }
+            }
+            index.addTags(tagged, newTags);
+
+            jpaQueryFactory.delete(tagMap).where(tagMap.post.id.eq(removed)).execute();
+            jpaQueryFactory.delete(post).where(post.id.eq(removed)).execute();
+            index.removePost(removed);
+        });
+
+        assertMatchesSql(index);
+        assertThat(index.match(TagMode.AND, TAGS).map(this::scoped).orElseThrow()).contains(tagged);
+        assertThat(index.match(TagMode.NAND, TAGS).map(this::scoped).orElseThrow()).contains(retagged).doesNotContain(removed);
+    }
+
+    // 태그 1~3개 조합 전부 + 없는 태그가 섞인 조합
+    private void assertMatchesSql(TagBitmapIndex index) {
+        List<List<String>> combinations = new ArrayList<>();
+        for (int a = 0; a < TAGS.size(); a++) {
+            combinations.add(List.of(TAGS.get(a)));
+            combinations.add(List.of(TAGS.get(a), MISSING_TAG));
+            for (int b = a + 1; b < TAGS.size(); b++) {
+                combinations.add(List.of(TAGS.get(a), TAGS.get(b)));
+                for (int c = b + 1; c < TAGS.size(); c++) {
+                    combinations.add(List.of(TAGS.get(a), TAGS.get(b), TAGS.get(c)));
+                }
+            }
+        }
+        combinations.add(List.of(MISSING_TAG));
+        combinations.add(TAGS);
+
+        for (List<String> titles : combinations) {
+            for (TagMode mode : TagMode.values()) {
+                assertThat(scoped(index.match(mode, titles).orElseThrow()))
+                        .as("%s %s", mode, titles)
+                        .isEqualTo(sql(mode, titles));
+            }
+        }
+    }
+
+    // SQL 기준 결과 (post_id 오름차순)
+    private List<Long> sql(TagMode mode, List<String> titles) {
+        return switch (mode) {
+            case OR -> jpaQueryFactory
+                    .select(tagMap.post.id)
+                    .distinct()
+                    .from(tagMap)
+                    .where(tagMap.tag.title.in(titles), tagMap.post.id.in(postIds))
+                    .orderBy(tagMap.post.id.asc())
+                    .fetch();
+            case AND -> jpaQueryFactory
+                    .select(tagMap.post.id)
+                    .from(tagMap)
+                    .where(tagMap.tag.title.in(titles), tagMap.post.id.in(postIds))
+                    .groupBy(tagMap.post.id)
+                    .having(tagMap.tag.id.countDistinct().eq((long) titles.size()))
+                    .orderBy(tagMap.post.id.asc())
+                    .fetch();
+            case NAND -> jpaQueryFactory
+                    .select(post.id)
+                    .from(post)
+                    .where(post.id.in(postIds), JPAExpressions
+                            .selectOne()
+                            .from(tagMap)
+                            .where(tagMap.post.id.eq(post.id), tagMap.tag.title.in(titles))
+                            .notExists())
+                    .orderBy(post.id.asc())
+                    .fetch();
+        };
+    }
+
+    // 비트맵 결과 중 이 테스트가 만든 게시글만 (오름차순)
+    private List<Long> scoped(RoaringBitmap bitmap) {
+        return postIds.stream()
+                .filter(id -> bitmap.contains(Math.toIntExact(id)))
+                .sorted()
+                .toList();
+    }
+
+    // 애플리케이션 시작 시 적재된 빈과 분리된 새 색인 (현재 DB 기준)
+    private TagBitmapIndex loadedIndex() {
+        TagBitmapIndex index = new TagBitmapIndex(jpaQueryFactory);
+        index.load();
+        return index;
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+}
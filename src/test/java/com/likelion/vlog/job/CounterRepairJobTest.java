@@ -0,0 +1,126 @@
+package com.likelion.vlog.job;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.Follow;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository;
+import com.likelion.vlog.repository.jdbc.CounterJdbcRepository.Target;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CounterRepairJob 범위 단위 보정
+ * - 카운터를 NULL / 틀린 값으로 만든 뒤 보정하면 follows / posts 건수와 같아지는지
+ * - chunk-size 를 작게 잡아 범위 경계에 걸린 행(마지막 id 포함)도 한 번씩만 갱신되는지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class CounterRepairJobTest {
+
+    private static final int USERS = 11;
+
+    @Autowired
+    private CounterRepairJob counterRepairJob;
+
+    @Autowired
+    private CounterJdbcRepository counterJdbcRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = user("repair" + i);
+            entityManager.persist(user);
+            users.add(user);
+        }
+        // i 번째 사용자는 i 명을 팔로우하고 게시글 i 개 작성
+        for (int i = 0; i < USERS; i++) {
+            for (int j = 0; j < i; j++) {
+                entityManager.persist(Follow.create(users.get(i), users.get((i + j + 1) % USERS)));
+            }
+            for (int j = 0; j < i; j++) {
+                entityManager.persist(Post.of("title " + j, "content", users.get(i).getBlog()));
+            }
+        }
+        entityManager.flush();
+
+        // 컬럼 추가 직후(NULL) / 어긋난 값 섞기
+        jdbcTemplate.update("UPDATE users SET follower_count = NULL, following_count = 99");
+        jdbcTemplate.update("UPDATE blogs SET post_count = CASE WHEN MOD(blog_id, 2) = 0 THEN NULL ELSE -5 END");
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, USERS, 1000})
+    void repairRestoresCountsAcrossChunkBoundaries(int chunkSize) {
+        for (Target target : Target.values()) {
+            ReflectionTestUtils.invokeMethod(counterRepairJob, "repair", new IdRangeWalker(chunkSize), target);
+        }
+
+        for (User user : users) {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT follower_count, following_count FROM users WHERE user_id = ?", user.getId());
+            assertThat(row.get("follower_count")).as("follower_count of %d", user.getId())
+                    .isEqualTo(count("SELECT COUNT(*) FROM follows WHERE following_id = ?", user.getId()));
+            assertThat(row.get("following_count")).as("following_count of %d", user.getId())
+                    .isEqualTo(count("SELECT COUNT(*) FROM follows WHERE follower_id = ?", user.getId()));
+
+            Long blogId = user.getBlog().getId();
+            assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM blogs WHERE blog_id = ?", Integer.class, blogId))
+                    .as("post_count of blog %d", blogId)
+                    .isEqualTo(count("SELECT COUNT(*) FROM posts WHERE blog_id = ?", blogId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, USERS, 1000})
+    void everyRowIsRepairedExactlyOnce(int chunkSize) {
+        for (Target target : Target.values()) {
+            long maxId = counterJdbcRepository.findMaxId(target);
+            long rows = new IdRangeWalker(chunkSize)
+                    .walk(maxId, (from, to) -> counterJdbcRepository.repairRange(target, from, to));
+
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + target.getTable(), Long.class);
+            assertThat(rows).as("%s chunkSize=%d", target, chunkSize).isEqualTo(total);
+        }
+    }
+
+    private Integer count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,91 @@
+package com.likelion.vlog.job;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IdRangeWalker 범위 경계
+ * - (0, maxId] 를 빈틈/겹침 없이 (fromExclusive, toInclusive] 로 나누는지
+ * - maxId 가 chunk-size 의 배수 / 배수 + 1 / chunk-size 보다 작은 경우
+ */
+class IdRangeWalkerTest {
+
+    @Test
+    void emptyTableProcessesNothing() {
+        List<long[]> ranges = new ArrayList<>();
+
+        long total = new IdRangeWalker(10).walk(0, record(ranges));
+
+        assertThat(total).isZero();
+        assertThat(ranges).isEmpty();
+    }
+
+    @Test
+    void maxIdBelowChunkSizeIsOneRange() {
+        List<long[]> ranges = new ArrayList<>();
+
+        new IdRangeWalker(10).walk(7, record(ranges));
+
+        assertThat(ranges).containsExactly(new long[]{0, 7});
+    }
+
+    @Test
+    void maxIdOnChunkBoundaryEndsExactlyThere() {
+        List<long[]> ranges = new ArrayList<>();
+
+        new IdRangeWalker(10).walk(30, record(ranges));
+
+        assertThat(ranges).containsExactly(new long[]{0, 10}, new long[]{10, 20}, new long[]{20, 30});
+    }
+
+    @Test
+    void maxIdJustPastBoundaryGetsSingleIdRange() {
+        List<long[]> ranges = new ArrayList<>();
+
+        new IdRangeWalker(10).walk(21, record(ranges));
+
+        assertThat(ranges).containsExactly(new long[]{0, 10}, new long[]{10, 20}, new long[]{20, 21});
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 5", "3, 10", "7, 49", "50, 1", "1000, 12345"})
+    void rangesCoverEveryIdExactlyOnce(int chunkSize, long maxId) {
+        long[] hits = new long[(int) maxId + 1];
+
+        long total = new IdRangeWalker(chunkSize).walk(maxId, (from, to) -> {
+            assertThat(to - from).isBetween(1L, (long) chunkSize);
+            for (long id = from + 1; id <= to; id++) {
+                hits[(int) id]++;
+            }
+            return (int) (to - from);
+        });
+
+        assertThat(total).isEqualTo(maxId);
+        assertThat(hits[0]).isZero();
+        for (int id = 1; id <= maxId; id++) {
+            assertThat(hits[id]).as("id %d", id).isEqualTo(1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void nonPositiveChunkSizeIsRejected(int chunkSize) {
+        assertThatThrownBy(() -> new IdRangeWalker(chunkSize))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static IdRangeWalker.RangeTask record(List<long[]> ranges) {
+        return (from, to) -> {
+            ranges.add(new long[]{from, to});
+            return 0;
+        };
+    }
+}
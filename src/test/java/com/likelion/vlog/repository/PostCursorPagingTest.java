@@ -0,0 +1,164 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.dto.posts.PostCursor;
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.enums.PageMode;
+import com.likelion.vlog.enums.SortField;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 커서(keyset) 페이징
+ * - 정렬 값이 같은 행이 페이지 경계에 걸쳐 있어도 누락/중복 없이 (정렬 값, post_id 내림차순) 순서로 이어지는지
+ * - 정렬 값은 몇 가지 값으로만 채워 같은 값이 여러 페이지에 걸치도록 함
+ * - 커서로 이어 읽은 순서가 offset 한 페이지로 읽은 순서와 같은지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class PostCursorPagingTest {
+
+    private static final int POSTS = 37;
+    private static final int PAGE_SIZE = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Long blogId;
+    private List<Row> rows;
+
+    @BeforeEach
+    void setUp() {
+        User author = user("cursor");
+        entityManager.persist(author);
+        blogId = author.getBlog().getId();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            Post post = Post.of("title " + i, "content " + i, author.getBlog());
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        entityManager.flush();
+
+        // 작성 시각은 auditing 이 채우므로 직접 덮어써 같은 값을 만듦
+        rows = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            Row row = new Row(posts.get(i).getId(), i % 3, i % 4, BASE.plusMinutes(i % 5), BASE.plusMinutes(i % 2));
+            jdbcTemplate.update(
+                    "UPDATE posts SET view_count = ?, like_count = ?, created_at = ?, updated_at = ? WHERE post_id = ?",
+                    row.viewCount(), row.likeCount(), row.createdAt(), row.updatedAt(), row.id());
+            rows.add(row);
+        }
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortField.class)
+    void cursorPagesFollowKeysetOrderAcrossEqualValues(SortField sort) {
+        for (boolean asc : new boolean[]{false, true}) {
+            List<Long> expected = expectedOrder(sort, asc);
+
+            assertThat(walk(sort, asc)).as("cursor %s asc=%s", sort, asc)
+                    .doesNotHaveDuplicates()
+                    .containsExactlyElementsOf(expected);
+
+            PostGetRequest offset = request(sort, asc, null);
+            offset.setMode(PageMode.OFFSET);
+            offset.setSize(POSTS);
+            assertThat(postRepository.search(offset).getContent())
+                    .as("offset %s asc=%s", sort, asc)
+                    .extracting(PostListGetResponse::getPostId)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    // 첫 페이지부터 nextCursor 로 끝까지 이어 읽음
+    private List<Long> walk(SortField sort, boolean asc) {
+        List<Long> ids = new ArrayList<>();
+        PostGetRequest request = request(sort, asc, null);
+
+        for (int pages = 0; pages <= POSTS; pages++) {
+            Slice<PostListGetResponse> slice = postRepository.searchByCursor(request);
+            List<PostListGetResponse> content = slice.getContent();
+            assertThat(content).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            content.forEach(post -> ids.add(post.getPostId()));
+
+            if (!slice.hasNext()) {
+                return ids;
+            }
+            request = request(sort, asc, PostCursor.of(content.get(content.size() - 1), request).encode());
+        }
+        throw new AssertionError("cursor paging did not terminate");
+    }
+
+    // 정렬 값 (asc/desc) -> post_id 내림차순
+    private List<Long> expectedOrder(SortField sort, boolean asc) {
+        Comparator<Row> byValue = switch (sort) {
+            case VIEW -> Comparator.comparing(Row::viewCount);
+            case LIKE -> Comparator.comparing(Row::likeCount);
+            case CREATED_AT -> Comparator.comparing(Row::createdAt);
+            case UPDATED_AT -> Comparator.comparing(Row::updatedAt);
+        };
+        if (!asc) {
+            byValue = byValue.reversed();
+        }
+        return rows.stream()
+                .sorted(byValue.thenComparing(Comparator.comparing(Row::id).reversed()))
+                .map(Row::id)
+                .toList();
+    }
+
+    private PostGetRequest request(SortField sort, boolean asc, String cursor) {
+        PostGetRequest request = new PostGetRequest();
+        request.setBlogId(blogId);
+        request.setSort(sort);
+        request.setAsc(asc);
+        request.setSize(PAGE_SIZE);
+        request.setMode(PageMode.CURSOR);
+        request.setCursor(cursor);
+        request.normalize();
+        return request;
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+
+    private record Row(Long id, int viewCount, int likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
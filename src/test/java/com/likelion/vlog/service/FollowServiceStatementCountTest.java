@@ -0,0 +1,231 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.dto.follows.FollowerGetResponse;
+import com.likelion.vlog.dto.follows.FollowingGetResponse;
+import com.likelion.vlog.dto.follows.PageResponse;
+import com.likelion.vlog.entity.Follow;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.index.FollowGraph;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 팔로워/팔로잉 목록 조회의 SQL 문장 수가 페이지 크기와 무관한지 확인
+ * - FollowGraph 는 적재 전 상태(mock)로 두어 맞팔로우 여부를 DB IN 쿼리로 조회하는 경로를 검증
+ * - 커서 방식: 팔로워 2문장(목록 + 맞팔로우 IN), 팔로잉 1문장
+ * - offset 방식: 위에 totalElements 용 COUNT 한 문장 추가
+ * - 사용자 존재 확인은 목록이 비었을 때만 실행되므로 세지 않음
+ * - 그래프 적재 후(stub): id 배열에서 페이지 범위만 사용자 조회 1문장
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class FollowServiceStatementCountTest {
+
+    private static final int FOLLOWERS = 30;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private FollowGraph followGraph;
+
+    private Statistics statistics;
+    private User target;
+    private List<Long> followerIds;
+    private Set<Long> followingIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        target = userRepository.save(user("target"));
+        followerIds = new ArrayList<>();
+        followingIds = new HashSet<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            User other = userRepository.save(user("user" + i));
+            followRepository.save(Follow.create(other, target));
+            followerIds.add(other.getId());
+            // 절반은 맞팔로우
+            if (i % 2 == 0) {
+                followRepository.save(Follow.create(target, other));
+                followingIds.add(other.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getFollowers_runsFixedStatementCount(int size) {
+        statistics.clear();
+
+        Page<FollowerGetResponse> page = followService.getFollowers(target.getId(), PageRequest.of(0, size));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS);
+        // 목록(팔로워 조인) + COUNT + 맞팔로우 IN
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getFollowersByCursor_runsTwoStatements(int size) {
+        statistics.clear();
+
+        PageResponse<FollowerGetResponse> page = followService.getFollowersByCursor(target.getId(), null, size);
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getPageInfo().isHasNext()).isTrue();
+        // 목록(팔로워 조인) + 맞팔로우 IN
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void getFollowings_runsFixedStatementCount(int size) {
+        statistics.clear();
+
+        Page<FollowingGetResponse> page = followService.getFollowings(target.getId(), PageRequest.of(0, size));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS / 2);
+        // 목록(팔로잉 조인) + COUNT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void getFollowingsByCursor_runsOneStatement(int size) {
+        statistics.clear();
+
+        PageResponse<FollowingGetResponse> page = followService.getFollowingsByCursor(target.getId(), null, size);
+
+        assertThat(page.getContent()).hasSize(size);
+        // 목록(팔로잉 조인)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void getFollowingsByCursor_checksUserOnlyWhenEmpty(int size) {
+        User lonely = userRepository.save(user("lonely"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<FollowingGetResponse> page = followService.getFollowingsByCursor(lonely.getId(), null, size);
+
+        assertThat(page.getContent()).isEmpty();
+        // 빈 목록 + 사용자 확인
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getFollowers_fromGraph_runsOneStatement(int size) {
+        stubReadyGraph();
+        statistics.clear();
+
+        Page<FollowerGetResponse> page = followService.getFollowers(target.getId(), PageRequest.of(0, size));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS);
+        assertThat(page.getContent()).allSatisfy(follower ->
+                assertThat(follower.isFollowing()).isEqualTo(followingIds.contains(follower.getUserId())));
+        // 페이지 사용자 + 본인 IN 조회 (맞팔로우 여부는 그래프)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void getFollowings_fromGraph_runsOneStatement(int size) {
+        stubReadyGraph();
+        statistics.clear();
+
+        Page<FollowingGetResponse> page = followService.getFollowings(target.getId(), PageRequest.of(0, size));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getMutualFollows_excludesDeletedUsersFromTotal() {
+        Long deletedId = followingIds.iterator().next();
+        userRepository.findById(deletedId).orElseThrow().markDeleted();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<FollowingGetResponse> page = followService.getMutualFollows(target.getId(), PageRequest.of(0, FOLLOWERS));
+
+        assertThat(page.getTotalElements()).isEqualTo(FOLLOWERS / 2 - 1);
+        assertThat(page.getContent()).hasSize(FOLLOWERS / 2 - 1)
+                .noneMatch(following -> following.getUserId().equals(deletedId));
+        // 맞팔로우 id + 페이지 사용자 IN 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    // 적재된 그래프 대신 시드 데이터와 같은 배열을 돌려주도록 stub
+    private void stubReadyGraph() {
+        when(followGraph.isReady()).thenReturn(true);
+        when(followGraph.followersOf(target.getId()))
+                .thenReturn(followerIds.stream().mapToLong(Long::longValue).sorted().toArray());
+        when(followGraph.followingsOf(target.getId()))
+                .thenReturn(followingIds.stream().mapToLong(Long::longValue).sorted().toArray());
+        when(followGraph.followingAmong(eq(target.getId()), any())).thenAnswer(invocation -> {
+            Set<Long> result = new HashSet<>(invocation.<Collection<Long>>getArgument(1));
+            result.retainAll(followingIds);
+            return result;
+        });
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, passwordEncoder);
+    }
+}
@@ -0,0 +1,197 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.FollowSuggestionCache.Candidate;
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.Follow;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.index.FollowGraph;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 팔로우 추천 (친구의 친구) 검증
+ * - 소수 사용자에게 팔로워가 몰리고 소수 사용자가 매우 많이 팔로우하는 (멱법칙) 그래프를 생성
+ * - FollowGraph 탐색이 max-first-hop / max-second-hop 범위만 읽는지
+ * - 범위 제한이 없을 때 FollowGraph 탐색과 DB GROUP BY(countSecondHop) 순위가 같은지
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FollowSuggestionTest {
+
+    private static final int USERS = 400;
+    private static final int MAX_FOLLOWINGS = USERS / 2;
+
+    // 로그인하지 않는 시드 사용자 (BCrypt 400회 비용 생략)
+    @SuppressWarnings("deprecation")
+    private static final PasswordEncoder PASSWORD_ENCODER = NoOpPasswordEncoder.getInstance();
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @MockitoSpyBean
+    private FollowGraph followGraph;
+
+    private FollowService target;
+    private List<Long> userIds;
+
+    @BeforeAll
+    void seed() {
+        target = AopTestUtils.getTargetObject(followService);
+
+        List<User> users = userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> user("user" + i))
+                .toList());
+        userIds = users.stream().map(User::getId).toList();
+
+        Random random = new Random(7);
+        List<Follow> follows = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            // 팔로잉 수: 파레토 분포 (대부분 몇 명, 일부는 수백 명)
+            int degree = Math.min(MAX_FOLLOWINGS, (int) (2 / Math.pow(1 - random.nextDouble(), 1.5)));
+            Set<Integer> followings = new LinkedHashSet<>();
+            while (followings.size() < degree) {
+                // 팔로우 대상: 앞 번호일수록 인기 (일부는 균등 선택)
+                int candidate = random.nextDouble() < 0.7
+                        ? (int) (USERS * Math.pow(random.nextDouble(), 3))
+                        : random.nextInt(USERS);
+                if (candidate != i) {
+                    followings.add(candidate);
+                }
+            }
+            for (int following : followings) {
+                follows.add(Follow.create(users.get(i), users.get(following)));
+            }
+        }
+        followRepository.saveAll(follows);
+
+        // 애플리케이션 시작 시에는 관계가 없었으므로 다시 적재
+        followGraph.load();
+    }
+
+    @AfterEach
+    void restoreLimits() {
+        setLimits(200, 500, 50);
+    }
+
+    @Test
+    void traversal_readsOnlyBoundedNeighborhood() {
+        int maxFirstHop = 5;
+        int maxSecondHop = 3;
+        setLimits(maxFirstHop, maxSecondHop, Integer.MAX_VALUE);
+
+        for (Long userId : sampleUsers()) {
+            clearInvocations(followGraph);
+
+            List<Candidate> candidates = traverse(userId);
+
+            long[] followings = followGraph.followingsOf(userId);
+            int firstHop = Math.min(followings.length, maxFirstHop);
+            // 본인 1회 + 1단계 사용자마다 1회 (+ 위 검증용 1회)
+            verify(followGraph, times(firstHop + 2)).followingsOf(any());
+
+            long visited = candidates.stream().mapToLong(Candidate::mutualCount).sum();
+            assertThat(visited).isLessThanOrEqualTo((long) firstHop * maxSecondHop);
+            assertThat(candidates).isEqualTo(expectedBounded(userId, maxFirstHop, maxSecondHop));
+        }
+    }
+
+    @Test
+    void unboundedTraversal_matchesCountSecondHop() {
+        setLimits(USERS, USERS, 50);
+
+        for (Long userId : sampleUsers()) {
+            List<Candidate> fromGraph = traverse(userId);
+            List<Candidate> fromDb = ReflectionTestUtils.invokeMethod(target, "countSecondHop", userId);
+
+            assertThat(fromGraph).isEqualTo(fromDb);
+        }
+    }
+
+    // 팔로잉이 가장 많은 사용자들 + 팔로워가 가장 많은 사용자들 + 임의 사용자
+    private List<Long> sampleUsers() {
+        Set<Long> sample = new LinkedHashSet<>();
+        userIds.stream()
+                .sorted(Comparator.comparingInt((Long id) -> followGraph.followingsOf(id).length).reversed())
+                .limit(5)
+                .forEach(sample::add);
+        userIds.stream()
+                .sorted(Comparator.comparingInt((Long id) -> followGraph.followersOf(id).length).reversed())
+                .limit(5)
+                .forEach(sample::add);
+        new Random(11).ints(10, 0, USERS).forEach(i -> sample.add(userIds.get(i)));
+        return List.copyOf(sample);
+    }
+
+    // 정렬된 인접 배열 앞에서부터 범위만큼 세어 본 기대값 (건수 내림차순, id 오름차순)
+    private List<Candidate> expectedBounded(Long userId, int maxFirstHop, int maxSecondHop) {
+        long[] followings = followGraph.followingsOf(userId);
+        Map<Long, Long> counts = new HashMap<>();
+        for (long via : Arrays.copyOf(followings, Math.min(followings.length, maxFirstHop))) {
+            long[] secondHop = followGraph.followingsOf(via);
+            for (long candidate : Arrays.copyOf(secondHop, Math.min(secondHop.length, maxSecondHop))) {
+                if (candidate != userId && Arrays.binarySearch(followings, candidate) < 0) {
+                    counts.merge(candidate, 1L, Long::sum);
+                }
+            }
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> new Candidate(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private List<Candidate> traverse(Long userId) {
+        return ReflectionTestUtils.invokeMethod(target, "traverseSecondHop", userId);
+    }
+
+    private void setLimits(int maxFirstHop, int maxSecondHop, int maxResults) {
+        ReflectionTestUtils.setField(target, "maxFirstHop", maxFirstHop);
+        ReflectionTestUtils.setField(target, "maxSecondHop", maxSecondHop);
+        ReflectionTestUtils.setField(target, "maxResults", maxResults);
+    }
+
+    private User user(String name) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(name + "@test.com");
+        request.setPassword("password");
+        request.setNickname(name);
+        return User.of(request, PASSWORD_ENCODER);
+    }
+}